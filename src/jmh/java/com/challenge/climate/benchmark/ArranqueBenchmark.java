@@ -0,0 +1,100 @@
+package com.challenge.climate.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el tiempo de arranque de la aplicación: desde que se lanza el proceso hasta la primera respuesta 200 de
+ * {@code GET /api/clima/resultados}, que incluye levantar el contexto y terminar el precálculo de los pronósticos.
+ * <p>
+ * Lanza el comando indicado tantas veces como repeticiones, cada vez en un puerto libre que se agrega como
+ * {@code --server.port}, e imprime cada medición, el mínimo, la mediana y el máximo. El snapshot se deshabilita para
+ * que todas las repeticiones calculen los pronósticos. Sin comando se usa el jar de {@code target}; para medir el
+ * perfil {@code arranque} se indica el comando con el archivo CDS y Spring AOT habilitado.
+ * <p>
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark.clase=com.challenge.climate.benchmark.ArranqueBenchmark -Djmh.args="[repeticiones] [comando]"
+ */
+public final class ArranqueBenchmark {
+
+    private static final String JAR = "target/climate-0.0.1-SNAPSHOT.jar";
+    private static final String RESULTADOS = "http://localhost:%d/api/clima/resultados";
+    private static final Duration ESPERA_MAXIMA = Duration.ofMinutes(2);
+    private static final long INTERVALO_MS = 5;
+
+    private ArranqueBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int repeticiones = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<String> comando = args.length > 1
+                ? Arrays.asList(args).subList(1, args.length)
+                : List.of("java", "-jar", JAR);
+
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        long[] duraciones = new long[repeticiones];
+        for (int i = 0; i < repeticiones; i++) {
+            duraciones[i] = medir(cliente, comando);
+            System.out.printf("Arranque %d: %d ms%n", i + 1, duraciones[i]);
+        }
+
+        Arrays.sort(duraciones);
+        System.out.printf("%s%n%d arranques. Minimo: %d ms, mediana: %d ms, maximo: %d ms%n", String.join(" ", comando),
+                repeticiones, duraciones[0], duraciones[repeticiones / 2], duraciones[repeticiones - 1]);
+    }
+
+    private static long medir(HttpClient cliente, List<String> comando) throws IOException, InterruptedException {
+        int puerto = buscarPuertoLibre();
+        List<String> argumentos = new ArrayList<>(comando);
+        argumentos.add("--server.port=" + puerto);
+        argumentos.add("--clima.snapshot.habilitado=false");
+        HttpRequest consulta = HttpRequest.newBuilder(URI.create(String.format(RESULTADOS, puerto)))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long inicio = System.nanoTime();
+        Process proceso = new ProcessBuilder(argumentos)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(new File("target/arranque-benchmark.log")))
+                .start();
+        try {
+            while (System.nanoTime() - inicio < ESPERA_MAXIMA.toNanos()) {
+                if (!proceso.isAlive()) {
+                    throw new IllegalStateException("La aplicacion termino con codigo " + proceso.exitValue()
+                            + ", ver target/arranque-benchmark.log");
+                }
+                try {
+                    if (cliente.send(consulta, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                    }
+                } catch (ConnectException | HttpTimeoutException ex) {
+                    // El servidor todavía no acepta conexiones
+                }
+                Thread.sleep(INTERVALO_MS);
+            }
+            throw new IllegalStateException("La aplicacion no respondio en " + ESPERA_MAXIMA);
+        } finally {
+            proceso.destroy();
+            if (!proceso.waitFor(30, TimeUnit.SECONDS)) {
+                proceso.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int buscarPuertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.challenge.climate.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Ejecuta los benchmarks JMH con las opciones de línea de comandos de JMH y, salvo que se indiquen otras,
+ * con el perfilador de asignaciones ({@code -prof gc}) y los resultados en JSON en {@link #RESULTADOS}.
+ * <p>
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="[filtro] [opciones de JMH]"
+ */
+public final class Benchmarks {
+
+    /**
+     * Archivo de resultados por defecto, relativo al directorio del proyecto.
+     */
+    static final String RESULTADOS = "target/jmh-resultados.json";
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions opciones = new CommandLineOptions(args);
+        if (opciones.shouldHelp() || opciones.shouldList() || opciones.shouldListWithParams()
+                || opciones.shouldListProfilers() || opciones.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder constructor = new OptionsBuilder().parent(opciones);
+        if (opciones.getProfilers().isEmpty()) {
+            constructor.addProfiler(GCProfiler.class);
+        }
+        if (!opciones.getResultFormat().hasValue()) {
+            constructor.resultFormat(ResultFormatType.JSON);
+        }
+        if (!opciones.getResult().hasValue()) {
+            constructor.result(RESULTADOS);
+        }
+        new Runner(constructor.build()).run();
+    }
+}
@@ -0,0 +1,39 @@
+package com.challenge.climate.benchmark;
+
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.service.ClimaService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de la simulación completa de {@link ClimaService#calcularPronosticos(int)} para distintos horizontes,
+ * con cada clasificador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClimaServiceBenchmark {
+
+    @Param({"3650", "365000", "3650000"})
+    private int dias;
+
+    @Param({"PENDIENTES", "PRODUCTO_CRUZ"})
+    private ClasificadorEnum clasificador;
+
+    private ClimaService climaService;
+
+    @Setup
+    public void setUp() {
+        climaService = new ClimaService(clasificador);
+    }
+
+    @Benchmark
+    public Simulacion calcularPronosticos() {
+        return climaService.calcularPronosticos(dias);
+    }
+}
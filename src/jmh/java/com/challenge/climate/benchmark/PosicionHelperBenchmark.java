@@ -0,0 +1,161 @@
+package com.challenge.climate.benchmark;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Planeta;
+import com.challenge.climate.model.Posicion;
+import com.challenge.climate.service.ClimaService;
+import com.challenge.climate.utils.ClasificadorClima;
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.PosicionHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por día de la clasificación y de las operaciones geométricas de {@link PosicionHelper}.
+ * <p>
+ * Los métodos terminados en BigDecimal reproducen el cálculo anterior a las tablas de coordenadas,
+ * para comparar ambos en la misma corrida. Las reglas de {@link ClimaHelper} se miden sobre los días que no son
+ * de sequía, que son los que llegan a evaluarlas en {@link ClasificadorEnum#PENDIENTES}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PosicionHelperBenchmark {
+
+    private Dia[] dias;
+    private Dia[] diasSinSequia;
+    private int indiceSinSequia;
+    private Posicion posicionSol;
+    private int indice;
+    private final ClasificadorClima clasificadorPendientes = ClasificadorClima.de(ClasificadorEnum.PENDIENTES);
+    private final ClasificadorClima clasificadorProductoCruz = ClasificadorClima.de(ClasificadorEnum.PRODUCTO_CRUZ);
+
+    @Setup
+    public void setUp() {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = ClimaService.crearConfiguracion();
+
+        dias = new Dia[(int) ClimaHelper.calcularPeriodo(configuracion.values())];
+        for (int numeroDia = 1; numeroDia <= dias.length; numeroDia++) {
+            dias[numeroDia - 1] = new Dia(numeroDia, configuracion).posicionar(configuracion, numeroDia);
+        }
+        posicionSol = new Posicion(new Planeta(PlanetaEnum.SOL, 0), 90);
+        diasSinSequia = Arrays.stream(dias).filter(dia -> !ClimaHelper.esSequia(dia) && sePuedeClasificar(dia)).toArray(Dia[]::new);
+    }
+
+    /**
+     * Descarta los días en que las reglas por pendientes no están definidas, por alineaciones verticales.
+     */
+    private boolean sePuedeClasificar(Dia dia) {
+        try {
+            ClimaHelper.esOptimo(dia, posicionSol);
+            ClimaHelper.esLluvia(dia, posicionSol);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private Dia siguienteDiaSinSequia() {
+        indiceSinSequia = indiceSinSequia + 1 == diasSinSequia.length ? 0 : indiceSinSequia + 1;
+        return diasSinSequia[indiceSinSequia];
+    }
+
+    private Dia siguienteDia() {
+        indice = indice + 1 == dias.length ? 0 : indice + 1;
+        return dias[indice];
+    }
+
+    @Benchmark
+    public void clasificarDia(Blackhole blackhole) {
+        Dia dia = siguienteDia();
+        blackhole.consume(clasificadorPendientes.clasificar(dia, posicionSol));
+        blackhole.consume(dia.getPerimetro());
+    }
+
+    @Benchmark
+    public void clasificarDiaProductoCruz(Blackhole blackhole) {
+        Dia dia = siguienteDia();
+        blackhole.consume(clasificadorProductoCruz.clasificar(dia, posicionSol));
+        blackhole.consume(dia.getPerimetro());
+    }
+
+    @Benchmark
+    public boolean esSequia() {
+        return ClimaHelper.esSequia(siguienteDia());
+    }
+
+    @Benchmark
+    public boolean esOptimo() {
+        return ClimaHelper.esOptimo(siguienteDiaSinSequia(), posicionSol);
+    }
+
+    @Benchmark
+    public boolean esLluvia() {
+        return ClimaHelper.esLluvia(siguienteDiaSinSequia(), posicionSol);
+    }
+
+    @Benchmark
+    public double getX() {
+        return PosicionHelper.getX(siguienteDia().getPosicionPlaneta1());
+    }
+
+    @Benchmark
+    public double getXBigDecimal() {
+        return getXBigDecimal(siguienteDia().getPosicionPlaneta1());
+    }
+
+    @Benchmark
+    public double getPendienteAUnPunto() {
+        Dia dia = siguienteDia();
+        return PosicionHelper.getPendienteAUnPunto(dia.getPosicionPlaneta1(), dia.getPosicionPlaneta2());
+    }
+
+    @Benchmark
+    public double getPendienteBigDecimal() {
+        Dia dia = siguienteDia();
+        Posicion p1 = dia.getPosicionPlaneta1();
+        Posicion p2 = dia.getPosicionPlaneta2();
+        return BigDecimal.valueOf((getYBigDecimal(p1) - getYBigDecimal(p2)) / (getXBigDecimal(p1) - getXBigDecimal(p2)))
+                .setScale(1, RoundingMode.FLOOR).doubleValue();
+    }
+
+    @Benchmark
+    public double getPerimetro() {
+        return siguienteDia().getPerimetro();
+    }
+
+    @Benchmark
+    public double getPerimetroBigDecimal() {
+        Dia dia = siguienteDia();
+        double x1 = getXBigDecimal(dia.getPosicionPlaneta1());
+        double x2 = getXBigDecimal(dia.getPosicionPlaneta2());
+        double x3 = getXBigDecimal(dia.getPosicionPlaneta3());
+        double y1 = getYBigDecimal(dia.getPosicionPlaneta1());
+        double y2 = getYBigDecimal(dia.getPosicionPlaneta2());
+        double y3 = getYBigDecimal(dia.getPosicionPlaneta3());
+
+        return Math.hypot(x1 - x2, y1 - y2) + Math.hypot(x1 - x3, y1 - y3) + Math.hypot(x2 - x3, y2 - y3);
+    }
+
+    private static double getXBigDecimal(Posicion posicion) {
+        return BigDecimal.valueOf(Math.cos(Math.toRadians(posicion.getGrados())) * posicion.getPlaneta().getRadio())
+                .setScale(0, RoundingMode.FLOOR).doubleValue();
+    }
+
+    private static double getYBigDecimal(Posicion posicion) {
+        return BigDecimal.valueOf(Math.sin(Math.toRadians(posicion.getGrados())) * posicion.getPlaneta().getRadio())
+                .setScale(0, RoundingMode.FLOOR).doubleValue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.challenge.climate.benchmark;
+
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.service.ClimaService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de armar y serializar a JSON el {@link PronosticoDTO} de un día, como lo hace {@code /dia/{dia}}
+ * cuando la respuesta no está en la cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionBenchmark {
+
+    private static final int DIAS = 3650;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ClimaService climaService;
+    private Simulacion simulacion;
+    private PronosticoDTO[] pronosticos;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        climaService = new ClimaService(ClasificadorEnum.PENDIENTES);
+        simulacion = climaService.calcularPronosticos(DIAS);
+        pronosticos = new PronosticoDTO[DIAS];
+        for (int dia = 1; dia <= DIAS; dia++) {
+            pronosticos[dia - 1] = climaService.getPronostico(simulacion, dia);
+        }
+    }
+
+    private int siguienteDia() {
+        indice = indice + 1 == DIAS ? 0 : indice + 1;
+        return indice + 1;
+    }
+
+    @Benchmark
+    public byte[] serializarPronostico() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pronosticos[siguienteDia() - 1]);
+    }
+
+    @Benchmark
+    public byte[] obtenerYSerializarPronostico() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(climaService.getPronostico(simulacion, siguienteDia()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.challenge.climate.benchmark;
+
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.dto.SerieDiasDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.service.ClimaService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Costo de transferir 10 años de pronósticos: la lista de {@link PronosticoDTO} en JSON, como la arma
+ * {@code /{clima}}, contra la {@link SerieDiasDTO} columnar de {@code /serie} en JSON y en CBOR.
+ * Se mide la serialización en el servidor y la lectura en el cliente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerieDiasBenchmark {
+
+    private static final int DIAS = 3650;
+
+    private final ObjectMapper mapperJson = new ObjectMapper();
+    private final ObjectMapper mapperCbor = new CBORMapper();
+    private List<PronosticoDTO> pronosticos;
+    private SerieDiasDTO serie;
+    private byte[] pronosticosJson;
+    private byte[] serieJson;
+    private byte[] serieCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        ClimaService climaService = new ClimaService(ClasificadorEnum.PENDIENTES);
+        Simulacion simulacion = climaService.calcularPronosticos(DIAS);
+        pronosticos = IntStream.rangeClosed(1, DIAS)
+                .mapToObj(dia -> climaService.getPronostico(simulacion, dia))
+                .toList();
+        serie = climaService.getSerie(simulacion, 1, DIAS);
+        pronosticosJson = mapperJson.writeValueAsBytes(pronosticos);
+        serieJson = mapperJson.writeValueAsBytes(serie);
+        serieCbor = mapperCbor.writeValueAsBytes(serie);
+    }
+
+    @Benchmark
+    public byte[] serializarPronosticosJson() throws IOException {
+        return mapperJson.writeValueAsBytes(pronosticos);
+    }
+
+    @Benchmark
+    public byte[] serializarSerieJson() throws IOException {
+        return mapperJson.writeValueAsBytes(serie);
+    }
+
+    @Benchmark
+    public byte[] serializarSerieCbor() throws IOException {
+        return mapperCbor.writeValueAsBytes(serie);
+    }
+
+    /**
+     * La lista de pronósticos se lee como árbol, porque {@code Posicion} y {@code Planeta} no tienen constructores
+     * para Jackson; es lo que haría un cliente genérico.
+     */
+    @Benchmark
+    public JsonNode leerPronosticosJson() throws IOException {
+        return mapperJson.readTree(pronosticosJson);
+    }
+
+    @Benchmark
+    public JsonNode leerSerieJson() throws IOException {
+        return mapperJson.readTree(serieJson);
+    }
+
+    @Benchmark
+    public JsonNode leerSerieCbor() throws IOException {
+        return mapperCbor.readTree(serieCbor);
+    }
+}
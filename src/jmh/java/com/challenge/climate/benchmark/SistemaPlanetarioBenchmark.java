@@ -0,0 +1,52 @@
+package com.challenge.climate.benchmark;
+
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.model.PosicionesPlanetas;
+import com.challenge.climate.model.SistemaPlanetario;
+import com.challenge.climate.utils.ClasificadorPlanetas;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por día de la clasificación de sistemas de N planetas con {@link ClasificadorPlanetas},
+ * para ver cómo crece con la cantidad de cuerpos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SistemaPlanetarioBenchmark {
+
+    @Param({"3", "12", "48"})
+    private int cuerpos;
+
+    private PosicionesPlanetas posiciones;
+    private final ClasificadorPlanetas clasificador = new ClasificadorPlanetas();
+    private long dia;
+
+    @Setup
+    public void setUp() {
+        Random aleatorio = new Random(cuerpos);
+        double[] radios = new double[cuerpos];
+        OrientacionEnum[] orientaciones = new OrientacionEnum[cuerpos];
+        int[] velocidades = new int[cuerpos];
+        for (int planeta = 0; planeta < cuerpos; planeta++) {
+            radios[planeta] = 100 + aleatorio.nextInt(5000);
+            orientaciones[planeta] = aleatorio.nextBoolean() ? OrientacionEnum.HORARIA : OrientacionEnum.ANTIHORARIA;
+            velocidades[planeta] = 1 + aleatorio.nextInt(10);
+        }
+        posiciones = new PosicionesPlanetas(new SistemaPlanetario(radios, orientaciones, velocidades));
+    }
+
+    @Benchmark
+    public void clasificarDia(Blackhole blackhole) {
+        posiciones.calcular(++dia);
+        blackhole.consume(clasificador.clasificar(posiciones));
+        blackhole.consume(posiciones.getPerimetro());
+    }
+}
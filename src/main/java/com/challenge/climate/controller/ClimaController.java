@@ -1,87 +1,568 @@
-package com.challenge.climate.controller;
-
-import com.challenge.climate.enums.ClimaEnum;
-import com.challenge.climate.dto.PronosticoDTO;
-import com.challenge.climate.dto.CondicionesClimaticasDTO;
-import com.challenge.climate.exceptions.DiaIncorrectoException;
-import com.challenge.climate.exceptions.TipoClimaException;
-import com.challenge.climate.service.ClimaService;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-import javax.annotation.PostConstruct;
-import java.util.*;
-
-import static com.challenge.climate.utils.Constantes.CLIMA_INEXISTENTE;
-import static com.challenge.climate.utils.Constantes.DIA_INCORRECTO;
-
-@RestController
-@RequestMapping("/api/clima")
-public class ClimaController {
-
-    private final ClimaService climateCalculationJob;
-    private CondicionesClimaticasDTO conditions;
-    private Map<Integer, PronosticoDTO> pronosticos;
-
-    public ClimaController(ClimaService climateCalculationJob) {
-        this.climateCalculationJob = climateCalculationJob;
-    }
-
-    @PostConstruct
-    public void init() {
-        int TOTAL_DAYS = 365 * 10;
-        conditions = climateCalculationJob.calcularPronosticos(TOTAL_DAYS);
-        pronosticos = climateCalculationJob.getPronosticos();
-    }
-
-    /**
-     * Obtiene la condición climática para un día específico.
-     *
-     * @param dia el número del día para el cual se desea obtener la condición climática
-     * @return la condición climática del día especificado
-     */
-    @GetMapping("/dia/{dia}")
-    public ResponseEntity<PronosticoDTO> getCondicionClimaticaDia(@PathVariable int dia) {
-        if (!pronosticos.containsKey(dia)) {
-            throw new DiaIncorrectoException(DIA_INCORRECTO);
-        }
-
-        return ResponseEntity.ok(pronosticos.get(dia));
-    }
-
-    /**
-     * Obtiene los resultados de las condiciones climáticas calculadas.
-     * Cantidad de dias de SEQUIA, LLUVIA, OPTIMO o INDEFINIDO y el dia mas lluvioso
-     *
-     * @return {@link  CondicionesClimaticasDTO} con los resultados de las condiciones climáticas
-     */
-    @GetMapping("/resultados")
-    public CondicionesClimaticasDTO getResultados() {
-        return conditions;
-    }
-
-    /**
-     * Obtiene una lista de pronósticos para un tipo de clima específico.
-     *
-     * @param clima el tipo de clima para el cual se desean obtener los pronósticos
-     * @return una lista de {@link PronosticoDTO} para el tipo de clima especificado
-     * @throws TipoClimaException si el tipo de clima especificado no es válido
-     */
-    @GetMapping("/{clima}")
-    public ResponseEntity<List<PronosticoDTO>> getAll(@PathVariable String clima) {
-
-        List<String> climas = Arrays.stream(ClimaEnum.values()).map(Enum::toString).toList();
-
-        if (!climas.contains(clima.toUpperCase())){
-            throw new TipoClimaException(String.format(CLIMA_INEXISTENTE, clima));
-        }
-
-        return ResponseEntity.ok(pronosticos.values().stream()
-                .filter(pronosticoDTO -> pronosticoDTO.clima().equalsIgnoreCase(clima))
-                .toList());
-    }
-
-}
+package com.challenge.climate.controller;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.dto.CondicionDTO;
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.dto.EstadoDTO;
+import com.challenge.climate.dto.EventoDTO;
+import com.challenge.climate.dto.PeriodosDTO;
+import com.challenge.climate.dto.RangoDiasDTO;
+import com.challenge.climate.dto.ResultadoConsultaDTO;
+import com.challenge.climate.dto.ResultadoDiaDTO;
+import com.challenge.climate.dto.SerieDiasDTO;
+import com.challenge.climate.exceptions.DiaIncorrectoException;
+import com.challenge.climate.exceptions.ParametroIncorrectoException;
+import com.challenge.climate.exceptions.TipoClimaException;
+import com.challenge.climate.model.IndiceClimas;
+import com.challenge.climate.model.RespuestaSerializada;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.service.ClimaService;
+import com.challenge.climate.service.ConsultasDias;
+import com.challenge.climate.service.EventosClimaticos;
+import com.challenge.climate.service.PrecalculoPronosticos;
+import com.challenge.climate.service.RespuestasSerializadas;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.challenge.climate.utils.Constantes.*;
+
+@ConditionalOnWebApplication
+@RestController
+@RequestMapping("/api/clima")
+public class ClimaController {
+
+    private final ClimaService climateCalculationJob;
+    private final PrecalculoPronosticos precalculo;
+    private final RespuestasSerializadas respuestas;
+    private final EventosClimaticos eventos;
+    private final ConsultasDias consultas;
+    private final ObjectWriter escritorPronosticos;
+    private final ObjectWriter escritorResultados;
+    private final ObjectMapper mapperCbor = Jackson2ObjectMapperBuilder.cbor().build();
+
+    public ClimaController(ClimaService climateCalculationJob, PrecalculoPronosticos precalculo,
+                           RespuestasSerializadas respuestas, EventosClimaticos eventos, ConsultasDias consultas,
+                           ObjectMapper objectMapper) {
+        this.climateCalculationJob = climateCalculationJob;
+        this.precalculo = precalculo;
+        this.respuestas = respuestas;
+        this.eventos = eventos;
+        this.consultas = consultas;
+        this.escritorPronosticos = objectMapper.writerFor(PronosticoDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.escritorResultados = objectMapper.writerFor(ResultadoDiaDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Obtiene el estado del precálculo de los pronósticos y cuánto demoró.
+     *
+     * @return {@link EstadoDTO} con el estado del precálculo
+     */
+    @GetMapping("/estado")
+    public EstadoDTO getEstado() {
+        return precalculo.getEstado();
+    }
+
+    /**
+     * Obtiene la condición climática para un día específico.
+     * Los días fuera del horizonte precalculado se calculan en el momento.
+     * La respuesta lleva un ETag fuerte y, si coincide con {@code If-None-Match}, se responde 304 sin cuerpo.
+     * Si el header {@code Accept} prefiere {@code application/cbor}, se responde en CBOR.
+     *
+     * @param dia el número del día para el cual se desea obtener la condición climática
+     * @param request la petición, para validar el ETag, el formato y la codificación aceptados
+     * @return el {@link PronosticoDTO} del día especificado, serializado
+     */
+    @GetMapping(value = "/dia/{dia}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> getCondicionClimaticaDia(@PathVariable long dia, WebRequest request) {
+        if (dia < 1) {
+            throw new DiaIncorrectoException(DIA_INCORRECTO);
+        }
+
+        Simulacion simulacion = precalculo.getSimulacion();
+        if (prefiereCbor(request)) {
+            return responderCbor(climateCalculationJob.getPronostico(simulacion, dia));
+        }
+        String etag = etagCodificado(RespuestasSerializadas.etagDia(simulacion, dia), request);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return responder(respuestas.getDia(simulacion, dia), etag, request);
+    }
+
+    /**
+     * Obtiene los resultados de las condiciones climáticas calculadas.
+     * Cantidad de dias de SEQUIA, LLUVIA, OPTIMO o INDEFINIDO y el dia mas lluvioso
+     *
+     * La respuesta del horizonte precalculado se serializa una sola vez. Todas llevan un ETag fuerte y,
+     * si coincide con {@code If-None-Match}, se responde 304 sin cuerpo.
+     *
+     * Con {@code desde} y {@code hasta} se obtienen los resultados de cualquier rango de días en tiempo constante.
+     * Si el header {@code Accept} prefiere {@code application/cbor}, se responde en CBOR.
+     *
+     * @param dias el horizonte en días; si no se indica se usan los 10 años precalculados
+     * @param desde el primer día del rango, 1 si no se indica
+     * @param hasta el último día del rango; si no se indica se usa {@code dias} o el último día precalculado
+     * @param request la petición, para validar el ETag, el formato y la codificación aceptados
+     * @return {@link  CondicionesClimaticasDTO} con los resultados de las condiciones climáticas, serializado
+     */
+    @GetMapping(value = "/resultados", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> getResultados(@RequestParam(required = false) Long dias,
+                                                @RequestParam(required = false) Long desde,
+                                                @RequestParam(required = false) Long hasta,
+                                                WebRequest request) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        if (dias == null && desde == null && hasta == null) {
+            if (prefiereCbor(request)) {
+                return responderCbor(simulacion.getCondiciones());
+            }
+            String etag = etagCodificado(RespuestasSerializadas.etagResultados(simulacion), request);
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return responder(respuestas.getResultados(simulacion), etag, request);
+        }
+        if (dias != null && dias < 1) {
+            throw new DiaIncorrectoException(DIA_INCORRECTO);
+        }
+
+        long primerDia = desde == null ? 1 : desde;
+        long ultimoDia = hasta != null ? hasta : dias != null ? dias : simulacion.getAlmacen().getTotalDias();
+        if (primerDia < 1 || ultimoDia < primerDia) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        if (prefiereCbor(request)) {
+            return responderCbor(climateCalculationJob.calcularCondiciones(simulacion, primerDia, ultimoDia));
+        }
+
+        String etagJson = RespuestasSerializadas.etagResultados(simulacion, primerDia, ultimoDia);
+        String etag = etagCodificado(etagJson, request);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return responder(respuestas.serializar(climateCalculationJob.calcularCondiciones(simulacion, primerDia, ultimoDia), etagJson), etag, request);
+    }
+
+    /**
+     * Obtiene el pronóstico del día de mayor lluvia de un rango: el primer día de lluvia con perímetro máximo.
+     *
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el último día precalculado
+     * @return el {@link PronosticoDTO} del día de mayor lluvia
+     * @throws ParametroIncorrectoException si el rango es inválido
+     * @throws DiaIncorrectoException si no hay días de lluvia en el rango
+     */
+    @GetMapping("/pico-lluvia")
+    public PronosticoDTO getPicoLluvia(@RequestParam(defaultValue = "1") long desde,
+                                       @RequestParam(required = false) Long hasta) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        long ultimoDia = hasta == null ? simulacion.getAlmacen().getTotalDias() : hasta;
+        if (desde < 1 || ultimoDia < desde) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+
+        long dia = climateCalculationJob.obtenerDiaMayorLluvia(simulacion, desde, ultimoDia);
+        if (dia == 0) {
+            throw new DiaIncorrectoException(SIN_LLUVIA);
+        }
+        return climateCalculationJob.getPronostico(simulacion, dia);
+    }
+
+    /**
+     * Obtiene el ETag de la representación que se va a responder: el de JSON, o el de gzip si el cliente lo acepta.
+     */
+    private static String etagCodificado(String etag, WebRequest request) {
+        return aceptaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) ? RespuestasSerializadas.etagGzip(etag) : etag;
+    }
+
+    /**
+     * Arma la respuesta de un cuerpo ya serializado, comprimido con gzip si el cliente lo acepta.
+     *
+     * @param respuesta la respuesta serializada
+     * @param etag el ETag de la representación, obtenido con {@link #etagCodificado}
+     * @param request la petición
+     * @return la respuesta con el ETag y la codificación correspondiente
+     */
+    private static ResponseEntity<byte[]> responder(RespuestaSerializada respuesta, String etag, WebRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (aceptaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(respuesta.gzip());
+        }
+        return builder.body(respuesta.json());
+    }
+
+    /**
+     * Serializa una respuesta en CBOR. No se guarda serializada ni lleva ETag: la representación por defecto es JSON.
+     */
+    private ResponseEntity<byte[]> responderCbor(Object cuerpo) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(mapperCbor.writeValueAsBytes(cuerpo));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Verifica si el header {@code Accept} prefiere CBOR a JSON: el primer tipo aceptado, por calidad, que incluye a
+     * alguno de los dos es exactamente {@code application/cbor}. Sin header o con comodines se responde JSON.
+     */
+    private static boolean prefiereCbor(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> aceptados = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        aceptados.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType aceptado : aceptados) {
+            if (aceptado.getQualityValue() > 0
+                    && (aceptado.includes(MediaType.APPLICATION_JSON) || aceptado.includes(MediaType.APPLICATION_CBOR))) {
+                return aceptado.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si el header {@code Accept-Encoding} acepta gzip, es decir si lo incluye sin {@code q=0}.
+     */
+    private static boolean aceptaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacion : acceptEncoding.split(",")) {
+            String[] partes = codificacion.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase(GZIP)) {
+                return partes.length == 1 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene los periodos de clima de un rango de los días precalculados: días consecutivos con el mismo clima,
+     * con el perímetro máximo de cada uno, y la cantidad de periodos de cada clima en el rango.
+     *
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el último día precalculado
+     * @param limite la cantidad máxima de periodos a listar, hasta {@value com.challenge.climate.utils.Constantes#LIMITE_MAXIMO}
+     * @return {@link PeriodosDTO} con los periodos del rango
+     * @throws ParametroIncorrectoException si el rango o el límite están fuera de rango
+     */
+    @GetMapping("/periodos")
+    public PeriodosDTO getPeriodos(@RequestParam(defaultValue = "1") long desde,
+                                   @RequestParam(required = false) Long hasta,
+                                   @RequestParam(defaultValue = "1000") int limite) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        int totalDias = simulacion.getAlmacen().getTotalDias();
+        long ultimoDia = hasta == null ? totalDias : hasta;
+        if (desde < 1 || ultimoDia < desde || ultimoDia > totalDias) {
+            throw new ParametroIncorrectoException(String.format(RANGO_INCORRECTO, totalDias));
+        }
+        validarLimite(limite);
+
+        return climateCalculationJob.getPeriodos(simulacion, desde, ultimoDia, limite);
+    }
+
+    /**
+     * Obtiene los pronósticos de un rango de días en columnas: los planetas y los nombres de los climas van una sola
+     * vez y cada día ocupa un valor en cada columna. En CBOR ({@code Accept: application/cbor}) el clima de cada día
+     * ocupa un byte y la respuesta es mucho más chica que la lista de pronósticos en JSON.
+     *
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el último día precalculado
+     * @return {@link SerieDiasDTO} con los días del rango
+     * @throws ParametroIncorrectoException si el rango es inválido o tiene más de
+     * {@value com.challenge.climate.utils.Constantes#SERIE_DIAS_MAXIMOS} días
+     */
+    @GetMapping(value = "/serie", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public SerieDiasDTO getSerie(@RequestParam(defaultValue = "1") long desde,
+                                 @RequestParam(required = false) Long hasta) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        long ultimoDia = hasta == null ? simulacion.getAlmacen().getTotalDias() : hasta;
+        if (desde < 1 || ultimoDia < desde) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        if (ultimoDia - desde >= SERIE_DIAS_MAXIMOS) {
+            throw new ParametroIncorrectoException(String.format(SERIE_INCORRECTA, SERIE_DIAS_MAXIMOS));
+        }
+
+        return climateCalculationJob.getSerie(simulacion, desde, ultimoDia);
+    }
+
+    /**
+     * Obtiene los instantes exactos en que cambia el clima, en tiempo continuo: sequías, óptimos, inicio y fin de
+     * las lluvias, y máximos y mínimos del perímetro. Si hay más eventos que el límite, el header
+     * {@value com.challenge.climate.utils.Constantes#HEADER_SIGUIENTE_DESDE} indica desde dónde seguir.
+     *
+     * @param desde el primer instante, en días con decimales
+     * @param hasta el último instante, en días con decimales
+     * @param limite la cantidad máxima de eventos, hasta {@value com.challenge.climate.utils.Constantes#LIMITE_MAXIMO}
+     * @return los {@link EventoDTO} del rango ordenados por instante
+     * @throws ParametroIncorrectoException si el rango o el límite están fuera de rango, o algún instante supera
+     * {@value com.challenge.climate.utils.Constantes#EVENTOS_INSTANTE_MAXIMO}
+     */
+    @GetMapping("/eventos")
+    public ResponseEntity<List<EventoDTO>> getEventos(@RequestParam(defaultValue = "0") double desde,
+                                                      @RequestParam(defaultValue = "3650") double hasta,
+                                                      @RequestParam(defaultValue = "1000") int limite) {
+        if (desde > EVENTOS_INSTANTE_MAXIMO || hasta > EVENTOS_INSTANTE_MAXIMO) {
+            throw new ParametroIncorrectoException(String.format(EVENTOS_RANGO_INCORRECTO, EVENTOS_INSTANTE_MAXIMO));
+        }
+        validarLimite(limite);
+        List<EventoDTO> encontrados = eventos.calcularEventos(ClimaService.crearConfiguracion(), desde, hasta, limite + 1);
+        if (encontrados.size() <= limite) {
+            return ResponseEntity.ok(encontrados);
+        }
+        return ResponseEntity.ok()
+                .header(HEADER_SIGUIENTE_DESDE, String.valueOf(encontrados.get(limite).instante()))
+                .body(encontrados.subList(0, limite));
+    }
+
+    /**
+     * Obtiene los días precalculados que cumplen una condición compuesta, por ejemplo los días de lluvia con Vulcano
+     * en el tercer cuadrante y perímetro mayor a 6000:
+     * {@code {"y": [{"clima": "LLUVIA"}, {"planeta": "VULCANO", "cuadrante": "TERCERO"}, {"perimetroMayor": 6000}]}}.
+     * Las condiciones se resuelven sobre el índice de mapas de bits de la simulación, sin recorrer los días.
+     *
+     * @param condicion la condición que deben cumplir los días
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el último día precalculado
+     * @param limite la cantidad máxima de días a listar, hasta {@value com.challenge.climate.utils.Constantes#LIMITE_MAXIMO}
+     * @param soloCantidad si es true solo se cuentan los días, sin listarlos
+     * @return {@link ResultadoConsultaDTO} con la cantidad de días que cumplen la condición y los primeros listados
+     * @throws ParametroIncorrectoException si la condición, el rango o el límite son inválidos
+     */
+    @PostMapping("/consulta")
+    public ResultadoConsultaDTO consultar(@RequestBody CondicionDTO condicion,
+                                          @RequestParam(defaultValue = "1") long desde,
+                                          @RequestParam(required = false) Long hasta,
+                                          @RequestParam(defaultValue = "1000") int limite,
+                                          @RequestParam(defaultValue = "false") boolean soloCantidad) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        int totalDias = simulacion.getAlmacen().getTotalDias();
+        long ultimoDia = hasta == null ? totalDias : hasta;
+        if (desde < 1 || ultimoDia < desde || ultimoDia > totalDias) {
+            throw new ParametroIncorrectoException(String.format(RANGO_INCORRECTO, totalDias));
+        }
+        validarLimite(limite);
+
+        return consultas.consultar(simulacion, condicion, (int) desde, (int) ultimoDia, soloCantidad ? 0 : limite);
+    }
+
+    /**
+     * Obtiene los pronósticos de un rango de días como JSON delimitado por saltos de línea, un pronóstico por línea.
+     * Los días se escriben a medida que se leen del almacenamiento o se calculan, sin armar la lista completa.
+     *
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el último día precalculado
+     * @return el stream de {@link PronosticoDTO} del rango
+     * @throws ParametroIncorrectoException si el rango es inválido o tiene más de
+     * {@value com.challenge.climate.utils.Constantes#DIAS_MAXIMOS} días
+     */
+    @GetMapping(value = "/dias", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getDias(@RequestParam(defaultValue = "1") long desde,
+                                                         @RequestParam(required = false) Long hasta) {
+        Simulacion simulacion = precalculo.getSimulacion();
+        int totalDias = simulacion.getAlmacen().getTotalDias();
+        long ultimoDia = hasta == null ? totalDias : hasta;
+        if (desde < 1 || ultimoDia < desde) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        if (ultimoDia - desde >= DIAS_MAXIMOS) {
+            throw new ParametroIncorrectoException(String.format(DIAS_INCORRECTOS, DIAS_MAXIMOS));
+        }
+
+        return ndjson(simulacion, LongStream.rangeClosed(desde, ultimoDia));
+    }
+
+    /**
+     * Obtiene los pronósticos de varios días en una sola petición, como JSON delimitado por saltos de línea.
+     * <p>
+     * Cada elemento de la consulta es un número de día o un rango {@code {"desde": 1, "hasta": 10}}, y los
+     * resultados salen en el orden de la consulta, uno por día. Un día o rango inválido no corta la respuesta:
+     * se informa en su línea con {@code pronostico} en null y el motivo en {@code error}.
+     *
+     * @param consulta los días y rangos pedidos
+     * @return el stream de {@link ResultadoDiaDTO}
+     * @throws ParametroIncorrectoException si la consulta está vacía, supera {@link com.challenge.climate.utils.Constantes#CONSULTAS_MAXIMAS}
+     * elementos o sus rangos válidos suman más de {@link com.challenge.climate.utils.Constantes#DIAS_MAXIMOS} días
+     */
+    @PostMapping(value = "/dias", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getDias(@RequestBody List<RangoDiasDTO> consulta) {
+        if (consulta == null || consulta.isEmpty() || consulta.size() > CONSULTAS_MAXIMAS) {
+            throw new ParametroIncorrectoException(String.format(CONSULTA_DIAS_INCORRECTA, CONSULTAS_MAXIMAS));
+        }
+        long totalDias = 0;
+        for (RangoDiasDTO rango : consulta) {
+            if (esValido(rango)) {
+                totalDias += rango.hasta() - rango.desde() + 1;
+                if (totalDias > DIAS_MAXIMOS) {
+                    throw new ParametroIncorrectoException(String.format(DIAS_INCORRECTOS, DIAS_MAXIMOS));
+                }
+            }
+        }
+        Simulacion simulacion = precalculo.getSimulacion();
+
+        StreamingResponseBody cuerpo = salida -> {
+            try (JsonGenerator generador = escritorResultados.createGenerator(salida)) {
+                generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET).setRootValueSeparator(null);
+                for (RangoDiasDTO rango : consulta) {
+                    if (!esValido(rango)) {
+                        escribirError(generador, rango);
+                        continue;
+                    }
+                    for (long dia = rango.desde(); dia <= rango.hasta() && dia > 0; dia++) {
+                        escritorResultados.writeValue(generador,
+                                new ResultadoDiaDTO(dia, climateCalculationJob.getPronostico(simulacion, dia), null));
+                        generador.writeRaw('\n');
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(cuerpo);
+    }
+
+    private static boolean esValido(RangoDiasDTO rango) {
+        return rango != null && rango.desde() != null && rango.hasta() != null
+                && rango.desde() >= 1 && rango.hasta() >= rango.desde();
+    }
+
+    /**
+     * Escribe la línea de un día o rango que no se encontró.
+     */
+    private void escribirError(JsonGenerator generador, RangoDiasDTO rango) throws IOException {
+        boolean diaSuelto = rango != null && rango.desde() != null && rango.desde().equals(rango.hasta());
+        long dia = rango == null || rango.desde() == null ? 0 : rango.desde();
+        escritorResultados.writeValue(generador, new ResultadoDiaDTO(dia, null, diaSuelto ? DIA_INCORRECTO : RANGO_INVALIDO));
+        generador.writeRaw('\n');
+    }
+
+    /**
+     * Obtiene todos los pronósticos de un tipo de clima como JSON delimitado por saltos de línea, ordenados por día.
+     * Se elige con el header {@code Accept: application/x-ndjson}.
+     *
+     * @param clima el tipo de clima para el cual se desean obtener los pronósticos
+     * @param desde el primer día a considerar
+     * @return el stream de {@link PronosticoDTO} del clima especificado
+     * @throws TipoClimaException si el tipo de clima especificado no es válido
+     */
+    @GetMapping(value = "/{clima}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllNdjson(@PathVariable String clima,
+                                                              @RequestParam(defaultValue = "1") long desde) {
+        ClimaEnum climaBuscado = parsearClima(clima);
+        Simulacion simulacion = precalculo.getSimulacion();
+        IndiceClimas indice = simulacion.getIndice();
+
+        return ndjson(simulacion, IntStream.range(indice.buscar(climaBuscado, desde), indice.contar(climaBuscado))
+                .mapToLong(posicion -> indice.getDia(climaBuscado, posicion)));
+    }
+
+    /**
+     * Escribe los pronósticos de una sucesión de días como JSON delimitado por saltos de línea. Cada pronóstico
+     * se serializa directamente sobre la respuesta, así que la memoria usada no depende de la cantidad de días.
+     *
+     * @param simulacion la simulación de referencia
+     * @param dias los números de día a escribir, en orden
+     * @return la respuesta con el cuerpo en streaming
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Simulacion simulacion, LongStream dias) {
+        StreamingResponseBody cuerpo = salida -> {
+            try (JsonGenerator generador = escritorPronosticos.createGenerator(salida)) {
+                generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET).setRootValueSeparator(null);
+                PrimitiveIterator.OfLong iterador = dias.iterator();
+                while (iterador.hasNext()) {
+                    escritorPronosticos.writeValue(generador, climateCalculationJob.getPronostico(simulacion, iterador.nextLong()));
+                    generador.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(cuerpo);
+    }
+
+    /**
+     * Obtiene una página de pronósticos para un tipo de clima específico, ordenados por día.
+     * Si quedan más días, el header {@value com.challenge.climate.utils.Constantes#HEADER_SIGUIENTE_DESDE}
+     * indica el valor de {@code desde} para pedir la página siguiente.
+     *
+     * @param clima el tipo de clima para el cual se desean obtener los pronósticos
+     * @param desde el primer día a considerar
+     * @param limite la cantidad máxima de pronósticos, hasta {@value com.challenge.climate.utils.Constantes#LIMITE_MAXIMO}
+     * @return una lista de {@link PronosticoDTO} para el tipo de clima especificado
+     * @throws TipoClimaException si el tipo de clima especificado no es válido
+     * @throws ParametroIncorrectoException si el límite está fuera de rango
+     */
+    @GetMapping("/{clima}")
+    public ResponseEntity<List<PronosticoDTO>> getAll(@PathVariable String clima,
+                                                      @RequestParam(defaultValue = "1") long desde,
+                                                      @RequestParam(defaultValue = "1000") int limite) {
+        ClimaEnum climaBuscado = parsearClima(clima);
+        validarLimite(limite);
+
+        Simulacion simulacion = precalculo.getSimulacion();
+        IndiceClimas indice = simulacion.getIndice();
+        int total = indice.contar(climaBuscado);
+        int inicio = indice.buscar(climaBuscado, desde);
+        int fin = (int) Math.min(total, (long) inicio + limite);
+
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().header(HEADER_TOTAL_DIAS, String.valueOf(total));
+        if (fin < total) {
+            respuesta.header(HEADER_SIGUIENTE_DESDE, String.valueOf(indice.getDia(climaBuscado, fin)));
+        }
+        return respuesta.body(IntStream.range(inicio, fin)
+                .mapToObj(posicion -> climateCalculationJob.getPronostico(simulacion, indice.getDia(climaBuscado, posicion)))
+                .toList());
+    }
+
+    private static void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new ParametroIncorrectoException(String.format(LIMITE_INCORRECTO, LIMITE_MAXIMO));
+        }
+    }
+
+    /**
+     * Convierte el nombre de un clima, sin distinguir mayúsculas, en su {@link ClimaEnum}.
+     *
+     * @param clima el nombre del clima
+     * @return el clima correspondiente
+     * @throws TipoClimaException si no existe un clima con ese nombre
+     */
+    private static ClimaEnum parsearClima(String clima) {
+        for (ClimaEnum tipo : ClimaEnum.values()) {
+            if (tipo.name().equalsIgnoreCase(clima)) {
+                return tipo;
+            }
+        }
+        throw new TipoClimaException(String.format(CLIMA_INEXISTENTE, clima));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.challenge.climate.controller;
+
+import com.challenge.climate.dto.BarridoDTO;
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.dto.CondicionesSistemaDTO;
+import com.challenge.climate.dto.CuerpoDTO;
+import com.challenge.climate.dto.EstadisticasCacheDTO;
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.dto.ResultadoBarridoDTO;
+import com.challenge.climate.dto.SistemaDTO;
+import com.challenge.climate.exceptions.DiaIncorrectoException;
+import com.challenge.climate.service.SistemasPlanetarios;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+import static com.challenge.climate.utils.Constantes.DIA_INCORRECTO;
+
+/**
+ * Pronósticos de sistemas planetarios definidos por los usuarios.
+ */
+@RestController
+@RequestMapping("/api/clima/sistemas")
+public class SistemasController {
+
+    private final SistemasPlanetarios sistemas;
+
+    public SistemasController(SistemasPlanetarios sistemas) {
+        this.sistemas = sistemas;
+    }
+
+    /**
+     * Registra un sistema planetario con otra configuración de Ferengi, Betasoide y Vulcano.
+     *
+     * @param sistema el sistema a registrar
+     * @return el {@link SistemaDTO} registrado, con el identificador para consultarlo
+     */
+    @PostMapping
+    public ResponseEntity<SistemaDTO> registrar(@RequestBody SistemaDTO sistema) {
+        SistemaDTO registrado = sistemas.registrar(sistema.planetas());
+        return ResponseEntity.created(URI.create("/api/clima/sistemas/" + registrado.id())).body(registrado);
+    }
+
+    /**
+     * Calcula las condiciones climáticas de un sistema con cualquier cantidad de planetas, sin registrarlo.
+     *
+     * @param cuerpos los planetas del sistema, alrededor del sol en el origen
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el horizonte de los sistemas
+     * @return {@link CondicionesSistemaDTO} con los resultados del rango
+     */
+    @PostMapping("/simulacion")
+    public CondicionesSistemaDTO simular(@RequestBody List<CuerpoDTO> cuerpos,
+                                         @RequestParam(required = false) Long desde,
+                                         @RequestParam(required = false) Long hasta) {
+        return sistemas.simular(cuerpos, desde, hasta);
+    }
+
+    /**
+     * Evalúa en paralelo todas las combinaciones de radios, orientaciones y velocidades de los planetas, sin registrarlas.
+     *
+     * @param barrido los valores a probar de cada planeta y el horizonte
+     * @return {@link ResultadoBarridoDTO} con el conteo de cada clima y el día de mayor lluvia de cada configuración
+     */
+    @PostMapping("/barrido")
+    public ResultadoBarridoDTO barrer(@RequestBody BarridoDTO barrido) {
+        return sistemas.barrer(barrido);
+    }
+
+    /**
+     * Obtiene las estadísticas de la cache de simulaciones.
+     *
+     * @return {@link EstadisticasCacheDTO} con los aciertos, fallos, desalojos y el tamaño de la cache
+     */
+    @GetMapping("/cache")
+    public EstadisticasCacheDTO getEstadisticas() {
+        return sistemas.getEstadisticas();
+    }
+
+    @GetMapping("/{id}")
+    public SistemaDTO getSistema(@PathVariable String id) {
+        return sistemas.getSistema(id);
+    }
+
+    /**
+     * Obtiene la condición climática de un día en un sistema registrado.
+     *
+     * @param id el identificador del sistema
+     * @param dia el número del día
+     * @return el {@link PronosticoDTO} del día
+     */
+    @GetMapping("/{id}/dia/{dia}")
+    public PronosticoDTO getCondicionClimaticaDia(@PathVariable String id, @PathVariable long dia) {
+        if (dia < 1) {
+            throw new DiaIncorrectoException(DIA_INCORRECTO);
+        }
+        return sistemas.getPronostico(id, dia);
+    }
+
+    /**
+     * Obtiene los resultados de las condiciones climáticas de un sistema registrado.
+     *
+     * @param id el identificador del sistema
+     * @param desde el primer día del rango
+     * @param hasta el último día del rango; si no se indica se usa el horizonte calculado
+     * @return {@link CondicionesClimaticasDTO} con los resultados del rango
+     */
+    @GetMapping("/{id}/resultados")
+    public CondicionesClimaticasDTO getResultados(@PathVariable String id,
+                                                  @RequestParam(required = false) Long desde,
+                                                  @RequestParam(required = false) Long hasta) {
+        return sistemas.calcularCondiciones(id, desde, hasta);
+    }
+}
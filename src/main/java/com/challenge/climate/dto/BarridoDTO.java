@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+import java.util.List;
+
+/**
+ * Un barrido de parámetros: se evalúan todas las combinaciones de los valores de cada planeta.
+ *
+ * @param dias el horizonte en días; si no se indica se usa el de los sistemas
+ * @param planetas los valores a probar de Ferengi, Betasoide y Vulcano
+ */
+public record BarridoDTO(Long dias, List<GrillaPlanetaDTO> planetas) {
+
+}
@@ -0,0 +1,34 @@
+package com.challenge.climate.dto;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.CuadranteEnum;
+import com.challenge.climate.enums.HemisferioEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.List;
+
+/**
+ * Una condición sobre los días de una consulta. Cada condición define uno solo de estos tipos:
+ * <ul>
+ *     <li>{@code y}, {@code o}: la intersección o la unión de una o más condiciones</li>
+ *     <li>{@code no}: los días que no cumplen una condición</li>
+ *     <li>{@code clima}: los días con ese clima</li>
+ *     <li>{@code planeta} con {@code cuadrante} o {@code hemisferio}: los días en que el planeta está ahí</li>
+ *     <li>{@code perimetroMayor} y/o {@code perimetroMenor}: los días con perímetro estrictamente mayor y/o menor</li>
+ * </ul>
+ *
+ * @param y las condiciones que deben cumplirse todas
+ * @param o las condiciones de las que debe cumplirse alguna
+ * @param no la condición que no debe cumplirse
+ * @param clima el tipo de clima
+ * @param planeta el planeta del cuadrante o hemisferio
+ * @param cuadrante el cuadrante del planeta
+ * @param hemisferio el hemisferio del planeta, sin contar los días en que está sobre un eje
+ * @param perimetroMayor el perímetro que deben superar los días
+ * @param perimetroMenor el perímetro que no deben alcanzar los días
+ */
+public record CondicionDTO(List<CondicionDTO> y, List<CondicionDTO> o, CondicionDTO no, ClimaEnum clima,
+                           PlanetaEnum planeta, CuadranteEnum cuadrante, HemisferioEnum hemisferio,
+                           Double perimetroMayor, Double perimetroMenor) {
+
+}
@@ -0,0 +1,18 @@
+package com.challenge.climate.dto;
+
+/**
+ * Condiciones climáticas de un rango de días en un sistema de cualquier cantidad de planetas.
+ *
+ * @param cuerpos la cantidad de planetas del sistema
+ * @param periodo la cantidad de días tras la cual se repiten todas las posiciones
+ * @param sequia los días de sequía del rango
+ * @param lluvia los días de lluvia del rango
+ * @param optimo los días de condiciones óptimas del rango
+ * @param indefinido los días sin clima definido del rango
+ * @param diaMasLluvioso el primer día de lluvia con perímetro máximo, o null si no llueve en el rango
+ * @param perimetroMaximo el perímetro de la envolvente de los planetas ese día, o null si no llueve en el rango
+ */
+public record CondicionesSistemaDTO(int cuerpos, long periodo, long sequia, long lluvia, long optimo, long indefinido,
+                                    Long diaMasLluvioso, Double perimetroMaximo) {
+
+}
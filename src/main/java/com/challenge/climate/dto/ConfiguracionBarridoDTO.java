@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+import java.util.List;
+
+/**
+ * El resultado de una configuración de un barrido de parámetros.
+ *
+ * @param planetas la configuración de los planetas
+ * @param condiciones el conteo de cada clima y el día de mayor lluvia en el horizonte del barrido
+ */
+public record ConfiguracionBarridoDTO(List<PlanetaDTO> planetas, CondicionesSistemaDTO condiciones) {
+
+}
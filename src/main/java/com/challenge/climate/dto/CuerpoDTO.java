@@ -0,0 +1,14 @@
+package com.challenge.climate.dto;
+
+import com.challenge.climate.enums.OrientacionEnum;
+
+/**
+ * Un planeta de un sistema de cualquier cantidad de cuerpos. Los planetas se identifican por su posición en la lista.
+ *
+ * @param radio el radio de la órbita
+ * @param orientacion el sentido de giro
+ * @param velocidad la velocidad angular, en grados por día
+ */
+public record CuerpoDTO(double radio, OrientacionEnum orientacion, int velocidad) {
+
+}
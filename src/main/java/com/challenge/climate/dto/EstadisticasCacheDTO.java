@@ -0,0 +1,6 @@
+package com.challenge.climate.dto;
+
+public record EstadisticasCacheDTO(long aciertos, long fallos, long desalojos, int entradas, int entradasMaximas,
+                                   long pesoBytes, long pesoMaximoBytes) {
+
+}
@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+/**
+ * Estado del precálculo de los pronósticos.
+ *
+ * @param listo si los pronósticos ya están disponibles
+ * @param diasPrecalculados los días del horizonte precalculado
+ * @param duracionPrecalculoMs cuánto demoró el precálculo, o null si no terminó
+ * @param error el motivo por el que falló el precálculo, o null si no falló
+ */
+public record EstadoDTO(boolean listo, long diasPrecalculados, Long duracionPrecalculoMs, String error) {
+
+}
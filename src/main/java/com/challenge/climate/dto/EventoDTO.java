@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+/**
+ * Un instante en que cambia el clima o el perímetro del triángulo alcanza un extremo.
+ *
+ * @param instante el instante en días, con decimales; el día N empieza en el instante N
+ * @param tipo el tipo de evento
+ * @param clima el clima en ese instante; en el inicio y el fin de una lluvia, el clima que empieza
+ * @param perimetro el perímetro del triángulo en ese instante
+ */
+public record EventoDTO(double instante, String tipo, String clima, double perimetro) {
+
+}
@@ -0,0 +1,19 @@
+package com.challenge.climate.dto;
+
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.List;
+
+/**
+ * Los valores a probar de un planeta en un barrido de parámetros.
+ *
+ * @param nombre el planeta
+ * @param radios los radios a probar
+ * @param orientaciones las orientaciones a probar
+ * @param velocidades las velocidades a probar, en grados por día
+ */
+public record GrillaPlanetaDTO(PlanetaEnum nombre, List<Double> radios, List<OrientacionEnum> orientaciones,
+                               List<Integer> velocidades) {
+
+}
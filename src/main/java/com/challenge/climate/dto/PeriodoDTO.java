@@ -0,0 +1,5 @@
+package com.challenge.climate.dto;
+
+public record PeriodoDTO(String clima, long desde, long hasta, double perimetroMaximo) {
+
+}
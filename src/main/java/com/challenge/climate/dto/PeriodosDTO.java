@@ -0,0 +1,16 @@
+package com.challenge.climate.dto;
+
+import com.challenge.climate.enums.ClimaEnum;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodos de un rango de días.
+ *
+ * @param cantidadPeriodos la cantidad de periodos distintos de cada clima en el rango, incluidos los que no se listan
+ * @param periodos los periodos listados, recortados a los límites del rango
+ */
+public record PeriodosDTO(Map<ClimaEnum, Long> cantidadPeriodos, List<PeriodoDTO> periodos) {
+
+}
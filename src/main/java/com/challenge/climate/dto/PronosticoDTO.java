@@ -1,5 +1,5 @@
-package com.challenge.climate.dto;
-
-public record PronosticoDTO(String clima, DiaDTO dia) {
-
-}
+package com.challenge.climate.dto;
+
+public record PronosticoDTO(String clima, DiaDTO dia) {
+
+}
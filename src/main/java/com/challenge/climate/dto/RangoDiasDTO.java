@@ -0,0 +1,25 @@
+package com.challenge.climate.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Un elemento de una consulta de varios días: un día suelto, escrito como número, o un rango
+ * {@code {"desde": 1, "hasta": 10}}.
+ *
+ * @param desde el primer día
+ * @param hasta el último día, igual a desde para un día suelto
+ */
+public record RangoDiasDTO(Long desde, Long hasta) {
+
+    @JsonCreator
+    public RangoDiasDTO(@JsonProperty("desde") Long desde, @JsonProperty("hasta") Long hasta) {
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static RangoDiasDTO de(long dia) {
+        return new RangoDiasDTO(dia, dia);
+    }
+}
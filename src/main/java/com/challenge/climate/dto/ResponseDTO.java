@@ -1,5 +1,5 @@
-package com.challenge.climate.dto;
-
-public record ResponseDTO(int codigo, String respuesta) {
-
-}
+package com.challenge.climate.dto;
+
+public record ResponseDTO(int codigo, String respuesta) {
+
+}
@@ -0,0 +1,17 @@
+package com.challenge.climate.dto;
+
+import java.util.List;
+
+/**
+ * El resultado de un barrido de parámetros.
+ *
+ * @param dias el horizonte evaluado en días
+ * @param configuraciones la cantidad de configuraciones evaluadas
+ * @param duracionMs cuánto demoró la evaluación
+ * @param configuracionesPorSegundo las configuraciones evaluadas por segundo
+ * @param resultados el resultado de cada configuración, en el orden de las combinaciones
+ */
+public record ResultadoBarridoDTO(long dias, int configuraciones, long duracionMs, long configuracionesPorSegundo,
+                                  List<ConfiguracionBarridoDTO> resultados) {
+
+}
@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de una consulta de días.
+ *
+ * @param cantidad la cantidad de días del rango que cumplen la condición, incluidos los que no se listan
+ * @param dias los primeros días que cumplen la condición, ordenados de menor a mayor
+ */
+public record ResultadoConsultaDTO(long cantidad, List<Integer> dias) {
+
+}
@@ -0,0 +1,12 @@
+package com.challenge.climate.dto;
+
+/**
+ * Resultado de un día en una consulta de varios días.
+ *
+ * @param dia el número de día pedido; para un rango inválido, su primer día
+ * @param pronostico el pronóstico del día, o null si no se encontró
+ * @param error el motivo por el que no se encontró, o null si se encontró
+ */
+public record ResultadoDiaDTO(long dia, PronosticoDTO pronostico, String error) {
+
+}
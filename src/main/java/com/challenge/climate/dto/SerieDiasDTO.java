@@ -0,0 +1,48 @@
+package com.challenge.climate.dto;
+
+import com.challenge.climate.model.Planeta;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Los pronósticos de un rango de días en columnas, para transferir muchos días sin repetir los datos de los planetas.
+ * Cada columna tiene un valor por día, empezando por {@code desde}; los planetas y los climas se envían una sola vez.
+ *
+ * @param desde el primer día del rango
+ * @param hasta el último día del rango
+ * @param planetas los planetas, en el orden de las columnas de {@code grados}
+ * @param climas los nombres de los climas, indexados por los valores de {@code clima}
+ * @param clima el índice en {@code climas} del clima de cada día: un arreglo de números en JSON y un byte string en
+ *              CBOR, un byte por día
+ * @param grados los grados de cada planeta en cada día, una columna por planeta
+ * @param perimetros el perímetro del triángulo de cada día
+ */
+public record SerieDiasDTO(long desde, long hasta, List<Planeta> planetas, List<String> climas,
+                           @JsonSerialize(using = ClimaSerializer.class) byte[] clima,
+                           short[][] grados, double[] perimetros) {
+
+    /**
+     * Escribe los climas como bytes en los formatos que los admiten, como CBOR, y como arreglo de números en JSON,
+     * donde Jackson los escribiría en base64.
+     */
+    static class ClimaSerializer extends JsonSerializer<byte[]> {
+
+        @Override
+        public void serialize(byte[] clima, JsonGenerator generador, SerializerProvider proveedor) throws IOException {
+            if (generador.canWriteBinaryNatively()) {
+                generador.writeBinary(clima);
+                return;
+            }
+            generador.writeStartArray(clima, clima.length);
+            for (byte indice : clima) {
+                generador.writeNumber(indice);
+            }
+            generador.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.challenge.climate.dto;
+
+import java.util.List;
+
+/**
+ * Sistema planetario definido por el usuario.
+ *
+ * @param id el identificador del sistema, derivado de la huella de su configuración; se ignora al registrarlo
+ * @param planetas la configuración de Ferengi, Betasoide y Vulcano
+ */
+public record SistemaDTO(String id, List<PlanetaDTO> planetas) {
+
+}
@@ -0,0 +1,6 @@
+package com.challenge.climate.enums;
+
+public enum ClasificadorEnum {
+    PENDIENTES,
+    PRODUCTO_CRUZ
+}
@@ -1,8 +1,8 @@
-package com.challenge.climate.enums;
-
-public enum ClimaEnum {
-    LLUVIA,
-    SEQUIA,
-    OPTIMO,
-    INDEFINIDO
-}
+package com.challenge.climate.enums;
+
+public enum ClimaEnum {
+    LLUVIA,
+    SEQUIA,
+    OPTIMO,
+    INDEFINIDO
+}
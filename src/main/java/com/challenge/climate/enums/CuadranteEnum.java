@@ -1,9 +1,9 @@
-package com.challenge.climate.enums;
-
-public enum CuadranteEnum {
-    PRIMERO,
-    SEGUNDO,
-    TERCERO,
-    CUARTO,
-    SOBREEJES
-}
+package com.challenge.climate.enums;
+
+public enum CuadranteEnum {
+    PRIMERO,
+    SEGUNDO,
+    TERCERO,
+    CUARTO,
+    SOBREEJES
+}
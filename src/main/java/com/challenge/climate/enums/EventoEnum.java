@@ -0,0 +1,10 @@
+package com.challenge.climate.enums;
+
+public enum EventoEnum {
+    SEQUIA,
+    OPTIMO,
+    INICIO_LLUVIA,
+    FIN_LLUVIA,
+    PERIMETRO_MAXIMO,
+    PERIMETRO_MINIMO
+}
@@ -0,0 +1,8 @@
+package com.challenge.climate.enums;
+
+public enum HemisferioEnum {
+    NORTE,
+    SUR,
+    ESTE,
+    OESTE
+}
@@ -1,6 +1,6 @@
-package com.challenge.climate.enums;
-
-public enum OrientacionEnum {
-    HORARIA,
-    ANTIHORARIA
-}
+package com.challenge.climate.enums;
+
+public enum OrientacionEnum {
+    HORARIA,
+    ANTIHORARIA
+}
@@ -1,8 +1,8 @@
-package com.challenge.climate.enums;
-
-public enum PlanetaEnum {
-    FERENGI,
-    BETASOIDE,
-    VULCANO,
-    SOL
-}
+package com.challenge.climate.enums;
+
+public enum PlanetaEnum {
+    FERENGI,
+    BETASOIDE,
+    VULCANO,
+    SOL
+}
@@ -1,32 +1,59 @@
-package com.challenge.climate.exceptions;
-
-import com.challenge.climate.dto.ResponseDTO;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.ControllerAdvice;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-
-@ControllerAdvice
-public class ApiExceptionsHandler {
-
-    @ExceptionHandler({Exception.class})
-    public ResponseEntity<ResponseDTO> excepcionGenericaHandler(Exception ex) {
-        ResponseDTO responseDTO = new ResponseDTO(500, ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
-    }
-
-    @ExceptionHandler({TipoClimaException.class})
-    public ResponseEntity<ResponseDTO> climaInexistenteHandler(Exception ex) {
-        ResponseDTO responseDTO = new ResponseDTO(404, ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
-    }
-
-    @ExceptionHandler({DiaIncorrectoException.class})
-    public ResponseEntity<ResponseDTO> diaIncorrectoHandler(Exception ex) {
-        ResponseDTO responseDTO = new ResponseDTO(404, ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
-    }
-}
+package com.challenge.climate.exceptions;
+
+import com.challenge.climate.dto.ResponseDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import static com.challenge.climate.utils.Constantes.REINTENTAR_EN_SEGUNDOS;
+
+@ControllerAdvice
+public class ApiExceptionsHandler {
+
+    @ExceptionHandler({Exception.class})
+    public ResponseEntity<ResponseDTO> excepcionGenericaHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(500, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responseDTO);
+    }
+
+    @ExceptionHandler({TipoClimaException.class})
+    public ResponseEntity<ResponseDTO> climaInexistenteHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(404, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
+    }
+
+    @ExceptionHandler({SistemaInexistenteException.class})
+    public ResponseEntity<ResponseDTO> sistemaInexistenteHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(404, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
+    }
+
+    @ExceptionHandler({DiaIncorrectoException.class})
+    public ResponseEntity<ResponseDTO> diaIncorrectoHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(404, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDTO);
+    }
+
+    @ExceptionHandler({ParametroIncorrectoException.class, HttpMessageNotReadableException.class})
+    public ResponseEntity<ResponseDTO> parametroIncorrectoHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(400, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDTO);
+    }
+
+    @ExceptionHandler({ServicioNoDisponibleException.class})
+    public ResponseEntity<ResponseDTO> servicioNoDisponibleHandler(Exception ex) {
+        ResponseDTO responseDTO = new ResponseDTO(503, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, REINTENTAR_EN_SEGUNDOS)
+                .body(responseDTO);
+    }
+}
@@ -1,8 +1,8 @@
-package com.challenge.climate.exceptions;
-
-public class DiaIncorrectoException extends RuntimeException {
-
-    public DiaIncorrectoException(String mensajeError) {
-        super(mensajeError);
-    }
-}
+package com.challenge.climate.exceptions;
+
+public class DiaIncorrectoException extends RuntimeException {
+
+    public DiaIncorrectoException(String mensajeError) {
+        super(mensajeError);
+    }
+}
@@ -0,0 +1,8 @@
+package com.challenge.climate.exceptions;
+
+public class ParametroIncorrectoException extends RuntimeException {
+
+    public ParametroIncorrectoException(String mensajeError) {
+        super(mensajeError);
+    }
+}
@@ -0,0 +1,8 @@
+package com.challenge.climate.exceptions;
+
+public class ServicioNoDisponibleException extends RuntimeException {
+
+    public ServicioNoDisponibleException(String mensajeError) {
+        super(mensajeError);
+    }
+}
@@ -0,0 +1,8 @@
+package com.challenge.climate.exceptions;
+
+public class SistemaInexistenteException extends RuntimeException {
+
+    public SistemaInexistenteException(String mensajeError) {
+        super(mensajeError);
+    }
+}
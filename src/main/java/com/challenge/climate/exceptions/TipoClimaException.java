@@ -1,8 +1,8 @@
-package com.challenge.climate.exceptions;
-
-public class TipoClimaException extends RuntimeException {
-
-    public TipoClimaException(String mensajeError) {
-        super(mensajeError);
-    }
-}
+package com.challenge.climate.exceptions;
+
+public class TipoClimaException extends RuntimeException {
+
+    public TipoClimaException(String mensajeError) {
+        super(mensajeError);
+    }
+}
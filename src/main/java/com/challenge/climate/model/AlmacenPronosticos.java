@@ -0,0 +1,91 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.Map;
+
+/**
+ * Almacenamiento columnar de los días calculados.
+ * <p>
+ * Cada día se guarda como los grados de cada planeta, el ordinal de su clima y el perímetro del triángulo,
+ * indexados por número de día. Los {@link Dia} se reconstruyen solo cuando se piden.
+ */
+public abstract class AlmacenPronosticos {
+
+    protected static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+
+    private final Planeta[] planetas;
+
+    protected AlmacenPronosticos(Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        this.planetas = Dia.crearPlanetas(configuracion);
+    }
+
+    /**
+     * @return los planetas de la configuración, compartidos por todos los {@link Dia} que se reconstruyen
+     */
+    public Planeta[] getPlanetas() {
+        return planetas;
+    }
+
+    public abstract int getTotalDias();
+
+    /**
+     * Estima el tamaño de los días guardados: los grados de cada planeta, el clima y el perímetro.
+     *
+     * @return el tamaño aproximado en bytes
+     */
+    public long getTamanoBytes() {
+        return (long) getTotalDias() * (Short.BYTES * Dia.PLANETAS.size() + Byte.BYTES + Double.BYTES);
+    }
+
+    /**
+     * Obtiene los grados de un planeta en un día.
+     *
+     * @param planeta el índice del planeta en {@link Dia#PLANETAS}
+     * @param dia el número de día
+     * @return los grados del planeta, entre -179 y 180
+     */
+    public abstract int getGrados(int planeta, int dia);
+
+    public abstract ClimaEnum getClima(int dia);
+
+    public abstract double getPerimetro(int dia);
+
+    /**
+     * Verifica si el día fue calculado.
+     *
+     * @param dia el número de día
+     * @return true si el día está dentro del horizonte calculado, false en caso contrario
+     */
+    public boolean contiene(long dia) {
+        return dia >= 1 && dia <= getTotalDias();
+    }
+
+    /**
+     * Carga en un {@link Dia} existente los datos guardados de un día, para reutilizarlo sin crear objetos nuevos.
+     *
+     * @param destino el día a completar
+     * @param dia el número de día
+     * @return el mismo {@link Dia} recibido
+     */
+    public Dia cargarDia(Dia destino, int dia) {
+        destino.setDia(dia);
+        destino.setTipoClima(getClima(dia));
+        for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+            destino.getPosicion(Dia.PLANETAS.get(planeta)).setGrados(getGrados(planeta, dia));
+        }
+        return destino;
+    }
+
+    /**
+     * Reconstruye el {@link Dia} guardado.
+     *
+     * @param dia el número de día
+     * @return un nuevo {@link Dia} con las posiciones y el clima guardados
+     */
+    public Dia getDia(int dia) {
+        return cargarDia(new Dia(dia, planetas), dia);
+    }
+}
@@ -0,0 +1,55 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.Map;
+
+/**
+ * {@link AlmacenPronosticos} de solo lectura que lee cada día directamente de un snapshot mapeado en memoria,
+ * sin copiarlo al heap.
+ */
+public class AlmacenPronosticosMapeado extends AlmacenPronosticos {
+
+    private final int totalDias;
+    private final ColumnaMapeada[] grados;
+    private final ColumnaMapeada climas;
+    private final ColumnaMapeada perimetros;
+
+    /**
+     * @param configuracion la configuración de los planetas del snapshot
+     * @param totalDias la cantidad de días del snapshot
+     * @param grados una columna de shorts por planeta, en el orden de {@link Dia#PLANETAS}
+     * @param climas la columna con el ordinal del clima de cada día
+     * @param perimetros la columna con el perímetro de cada día
+     */
+    public AlmacenPronosticosMapeado(Map<PlanetaEnum, PlanetaDTO> configuracion, int totalDias, ColumnaMapeada[] grados,
+                                     ColumnaMapeada climas, ColumnaMapeada perimetros) {
+        super(configuracion);
+        this.totalDias = totalDias;
+        this.grados = grados;
+        this.climas = climas;
+        this.perimetros = perimetros;
+    }
+
+    @Override
+    public int getTotalDias() {
+        return totalDias;
+    }
+
+    @Override
+    public int getGrados(int planeta, int dia) {
+        return grados[planeta].getShort(dia - 1);
+    }
+
+    @Override
+    public ClimaEnum getClima(int dia) {
+        return CLIMAS[climas.getByte(dia - 1)];
+    }
+
+    @Override
+    public double getPerimetro(int dia) {
+        return perimetros.getDouble(dia - 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.challenge.climate.utils.Constantes.GRADOS_180;
+import static com.challenge.climate.utils.Constantes.GRADOS_MINUS_180;
+
+/**
+ * {@link AlmacenPronosticos} en arreglos primitivos del heap: un short[] de grados por planeta,
+ * un byte[] con el ordinal del clima y un double[] con el perímetro.
+ */
+public class AlmacenPronosticosMemoria extends AlmacenPronosticos {
+
+    private final short[][] grados;
+    private final byte[] climas;
+    private final double[] perimetros;
+
+    public AlmacenPronosticosMemoria(Map<PlanetaEnum, PlanetaDTO> configuracion, int totalDias) {
+        super(configuracion);
+        this.grados = new short[Dia.PLANETAS.size()][totalDias];
+        this.climas = new byte[totalDias];
+        this.perimetros = new double[totalDias];
+        Arrays.fill(climas, (byte) ClimaEnum.INDEFINIDO.ordinal());
+    }
+
+    @Override
+    public int getTotalDias() {
+        return climas.length;
+    }
+
+    @Override
+    public int getGrados(int planeta, int dia) {
+        return grados[planeta][dia - 1];
+    }
+
+    /**
+     * Guarda los grados de un planeta para un día. El valor -180 se guarda como 180,
+     * con el mismo criterio que {@link Posicion#getGrados()}.
+     *
+     * @param planeta el índice del planeta en {@link Dia#PLANETAS}
+     * @param dia el número de día
+     * @param valor los grados del planeta
+     */
+    public void setGrados(int planeta, int dia, int valor) {
+        grados[planeta][dia - 1] = (short) (valor == GRADOS_MINUS_180 ? GRADOS_180 : valor);
+    }
+
+    @Override
+    public ClimaEnum getClima(int dia) {
+        return CLIMAS[climas[dia - 1]];
+    }
+
+    @Override
+    public double getPerimetro(int dia) {
+        return perimetros[dia - 1];
+    }
+
+    public void setClima(int dia, ClimaEnum clima, double perimetro) {
+        climas[dia - 1] = (byte) clima.ordinal();
+        perimetros[dia - 1] = perimetro;
+    }
+}
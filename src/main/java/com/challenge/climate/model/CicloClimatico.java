@@ -0,0 +1,112 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Climas y perímetros de un ciclo completo de las órbitas.
+ * <p>
+ * Como el día N y el día N + periodo tienen las mismas posiciones, cualquier horizonte se resuelve con
+ * los ciclos completos más un ciclo parcial, usando los conteos acumulados de cada clima. Los conteos de un
+ * rango son la diferencia entre los conteos de sus extremos, así que se obtienen en tiempo constante.
+ */
+public class CicloClimatico {
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+
+    private final byte[] climas;
+    private final int[][] acumulados;
+    private final TablaMaximos perimetrosLluvia;
+
+    /**
+     * @param climas el ordinal del clima de cada día del ciclo, empezando por el día 1
+     * @param perimetros el perímetro de cada día del ciclo, empezando por el día 1
+     */
+    public CicloClimatico(byte[] climas, double[] perimetros) {
+        this.climas = climas;
+        this.acumulados = new int[CLIMAS.length][climas.length + 1];
+
+        double[] lluvia = new double[climas.length];
+        for (int dia = 0; dia < climas.length; dia++) {
+            lluvia[dia] = CLIMAS[climas[dia]] == ClimaEnum.LLUVIA ? perimetros[dia] : Double.NEGATIVE_INFINITY;
+        }
+        this.perimetrosLluvia = new TablaMaximos(lluvia);
+
+        for (int dia = 1; dia <= climas.length; dia++) {
+            for (int clima = 0; clima < CLIMAS.length; clima++) {
+                acumulados[clima][dia] = acumulados[clima][dia - 1];
+            }
+            acumulados[climas[dia - 1]][dia]++;
+        }
+    }
+
+    public int getPeriodo() {
+        return climas.length;
+    }
+
+    /**
+     * Cuenta los días de un clima entre el día 1 y el día dado.
+     *
+     * @param clima el clima a contar
+     * @param dias el último día del horizonte
+     * @return la cantidad de días con ese clima
+     */
+    public long contar(ClimaEnum clima, long dias) {
+        int[] acumuladosClima = acumulados[clima.ordinal()];
+        return (dias / getPeriodo()) * acumuladosClima[getPeriodo()] + acumuladosClima[(int) (dias % getPeriodo())];
+    }
+
+    /**
+     * Cuenta los días de cada clima en un rango de días.
+     *
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return un mapa con el conteo de cada tipo de clima
+     */
+    public Map<ClimaEnum, Long> contarClimas(long desde, long hasta) {
+        Map<ClimaEnum, Long> conteos = new EnumMap<>(ClimaEnum.class);
+        for (ClimaEnum clima : CLIMAS) {
+            conteos.put(clima, contar(clima, hasta) - contar(clima, desde - 1));
+        }
+        return conteos;
+    }
+
+    /**
+     * Obtiene el primer día de lluvia con perímetro máximo en un rango de días, en tiempo constante.
+     * <p>
+     * Pasado un ciclo los perímetros se repiten, así que basta con mirar el primer ciclo del rango. Si ese
+     * tramo cruza el final del ciclo se consulta en dos partes y, ante perímetros iguales, gana la primera.
+     *
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return el número de día, o 0 si no hay días de lluvia
+     */
+    public long obtenerDiaMayorLluvia(long desde, long hasta) {
+        int periodo = getPeriodo();
+        long ultimoDia = desde + Math.min(hasta - desde, periodo - 1);
+        int inicio = (int) ((desde - 1) % periodo);
+        int fin = (int) ((ultimoDia - 1) % periodo);
+
+        if (inicio <= fin) {
+            int posicion = perimetrosLluvia.buscar(inicio, fin);
+            return posicion < 0 ? 0 : desde + posicion - inicio;
+        }
+
+        int primera = perimetrosLluvia.buscar(inicio, periodo - 1);
+        int segunda = perimetrosLluvia.buscar(0, fin);
+        if (segunda >= 0 && (primera < 0 || perimetrosLluvia.getValor(segunda) > perimetrosLluvia.getValor(primera))) {
+            return desde + (periodo - inicio + segunda);
+        }
+        return primera < 0 ? 0 : desde + primera - inicio;
+    }
+
+    /**
+     * @param dia un día de lluvia
+     * @return el perímetro de ese día
+     */
+    public double getPerimetroLluvia(long dia) {
+        return perimetrosLluvia.getValor((int) ((dia - 1) % getPeriodo()));
+    }
+}
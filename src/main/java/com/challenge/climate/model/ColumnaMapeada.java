@@ -0,0 +1,61 @@
+package com.challenge.climate.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Columna de valores primitivos mapeada en memoria desde un archivo.
+ * <p>
+ * Un {@link java.nio.MappedByteBuffer} no puede superar los 2 GB, por eso la columna se mapea en segmentos
+ * de 2^{@value #BITS_SEGMENTO} bytes. Como el tamaño de los segmentos es múltiplo del tamaño de cada valor,
+ * ningún valor queda partido entre dos segmentos.
+ */
+public final class ColumnaMapeada {
+
+    public static final int BITS_SEGMENTO = 30;
+    private static final long MASCARA_SEGMENTO = (1L << BITS_SEGMENTO) - 1;
+
+    private final ByteBuffer[] segmentos;
+
+    private ColumnaMapeada(ByteBuffer[] segmentos) {
+        this.segmentos = segmentos;
+    }
+
+    /**
+     * Mapea en modo lectura una región de un archivo.
+     *
+     * @param canal el canal del archivo
+     * @param posicion el byte donde empieza la columna
+     * @param tamano el tamaño de la columna en bytes
+     * @param orden el orden de bytes con el que se escribieron los valores
+     * @return la columna mapeada
+     * @throws IOException si no se puede mapear el archivo
+     */
+    public static ColumnaMapeada mapear(FileChannel canal, long posicion, long tamano, ByteOrder orden) throws IOException {
+        int cantidad = (int) ((tamano + MASCARA_SEGMENTO) >>> BITS_SEGMENTO);
+        ByteBuffer[] segmentos = new ByteBuffer[cantidad];
+
+        for (int segmento = 0; segmento < cantidad; segmento++) {
+            long inicio = (long) segmento << BITS_SEGMENTO;
+            segmentos[segmento] = canal.map(FileChannel.MapMode.READ_ONLY, posicion + inicio,
+                    Math.min(1L << BITS_SEGMENTO, tamano - inicio)).order(orden);
+        }
+        return new ColumnaMapeada(segmentos);
+    }
+
+    public byte getByte(long indice) {
+        return segmentos[(int) (indice >>> BITS_SEGMENTO)].get((int) (indice & MASCARA_SEGMENTO));
+    }
+
+    public short getShort(long indice) {
+        long desplazamiento = indice << 1;
+        return segmentos[(int) (desplazamiento >>> BITS_SEGMENTO)].getShort((int) (desplazamiento & MASCARA_SEGMENTO));
+    }
+
+    public double getDouble(long indice) {
+        long desplazamiento = indice << 3;
+        return segmentos[(int) (desplazamiento >>> BITS_SEGMENTO)].getDouble((int) (desplazamiento & MASCARA_SEGMENTO));
+    }
+}
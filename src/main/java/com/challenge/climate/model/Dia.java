@@ -1,81 +1,123 @@
-package com.challenge.climate.model;
-
-import com.challenge.climate.dto.DiaDTO;
-import com.challenge.climate.dto.PlanetaDTO;
-import com.challenge.climate.enums.ClimaEnum;
-import com.challenge.climate.enums.PlanetaEnum;
-import com.challenge.climate.utils.PosicionHelper;
-
-import java.util.Map;
-
-public class Dia {
-
-    private int dia;
-    private ClimaEnum tipoClima;
-    private final Posicion posicionPlaneta1;
-    private final Posicion posicionPlaneta2;
-    private final Posicion posicionPlaneta3;
-
-    public Dia(int numeroDia, Map<PlanetaEnum, PlanetaDTO> mapaConfig) {
-        super();
-        this.setDia(numeroDia);
-        this.setTipoClima(ClimaEnum.INDEFINIDO);
-        this.posicionPlaneta1 = new Posicion(new Planeta(PlanetaEnum.BETASOIDE, mapaConfig.get(PlanetaEnum.BETASOIDE).getRadio()), 90);
-        this.posicionPlaneta2 = new Posicion(new Planeta(PlanetaEnum.FERENGI, mapaConfig.get(PlanetaEnum.FERENGI).getRadio()), 90);
-        this.posicionPlaneta3 = new Posicion(new Planeta(PlanetaEnum.VULCANO, mapaConfig.get(PlanetaEnum.VULCANO).getRadio()), 90);
-    }
-
-    public double getPerimetro() {
-        double xPosicion1 = PosicionHelper.getX(this.getPosicionPlaneta1());
-        double xPosicion2 = PosicionHelper.getX(this.getPosicionPlaneta2());
-        double xPosicion3 = PosicionHelper.getX(this.getPosicionPlaneta3());
-        double yPosicion1 = PosicionHelper.getY(this.getPosicionPlaneta1());
-        double yPosicion2 = PosicionHelper.getY(this.getPosicionPlaneta2());
-        double yPosicion3 = PosicionHelper.getY(this.getPosicionPlaneta3());
-
-        return Math.hypot(xPosicion1 - xPosicion2, yPosicion1 - yPosicion2) +
-                Math.hypot(xPosicion1 - xPosicion3, yPosicion1 - yPosicion3) +
-                Math.hypot(xPosicion2 - xPosicion3, yPosicion2 - yPosicion3);
-    }
-
-    public Posicion getPosicionPlaneta1() {
-        return posicionPlaneta1;
-    }
-
-    public Posicion getPosicionPlaneta2() {
-        return posicionPlaneta2;
-    }
-
-    public Posicion getPosicionPlaneta3() {
-        return posicionPlaneta3;
-    }
-
-    public ClimaEnum getTipoClima() {
-        return tipoClima;
-    }
-
-    public void setTipoClima(ClimaEnum tipoClima) {
-        this.tipoClima = tipoClima;
-    }
-
-    public Posicion getPosicion (PlanetaEnum planeta)	{
-        return switch (planeta) {
-            case BETASOIDE -> posicionPlaneta1;
-            case FERENGI -> this.posicionPlaneta2;
-            case VULCANO -> this.posicionPlaneta3;
-            default -> null;
-        };
-    }
-
-    public int getDia() {
-        return dia;
-    }
-    public void setDia(int dia) {
-        this.dia = dia;
-    }
-
-    public int compareTo(DiaDTO dia1) {
-        return (this.getPerimetro() < dia1.getPerimetro()) ? -1 : 1;
-    }
-
-}
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.DiaDTO;
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.PosicionHelper;
+
+import java.util.List;
+import java.util.Map;
+
+public class Dia {
+
+    /**
+     * Orden de los planetas en las posiciones 1, 2 y 3 del día.
+     */
+    public static final List<PlanetaEnum> PLANETAS = List.of(PlanetaEnum.BETASOIDE, PlanetaEnum.FERENGI, PlanetaEnum.VULCANO);
+
+    private long dia;
+    private ClimaEnum tipoClima;
+    private final Posicion[] posiciones;
+
+    public Dia(long numeroDia, Map<PlanetaEnum, PlanetaDTO> mapaConfig) {
+        this(numeroDia, crearPlanetas(mapaConfig));
+    }
+
+    /**
+     * Crea un día con planetas ya creados, que se comparten sin buscar de nuevo sus tablas de coordenadas.
+     *
+     * @param numeroDia el número de día
+     * @param planetas los planetas en el orden de {@link #PLANETAS}, creados con {@link #crearPlanetas(Map)}
+     */
+    public Dia(long numeroDia, Planeta[] planetas) {
+        super();
+        this.setDia(numeroDia);
+        this.setTipoClima(ClimaEnum.INDEFINIDO);
+        this.posiciones = new Posicion[PLANETAS.size()];
+        for (int planeta = 0; planeta < posiciones.length; planeta++) {
+            posiciones[planeta] = new Posicion(planetas[planeta], 90);
+        }
+    }
+
+    /**
+     * Crea los planetas de una configuración, en el orden de {@link #PLANETAS}. No se modifican después, así que
+     * los días de una misma configuración pueden compartirlos.
+     *
+     * @param mapaConfig la configuración de los planetas
+     * @return un planeta por cada uno de {@link #PLANETAS}
+     */
+    public static Planeta[] crearPlanetas(Map<PlanetaEnum, PlanetaDTO> mapaConfig) {
+        Planeta[] planetas = new Planeta[PLANETAS.size()];
+        for (int planeta = 0; planeta < planetas.length; planeta++) {
+            PlanetaEnum nombre = PLANETAS.get(planeta);
+            planetas[planeta] = new Planeta(nombre, mapaConfig.get(nombre).getRadio());
+        }
+        return planetas;
+    }
+
+    public double getPerimetro() {
+        double xPosicion1 = PosicionHelper.getX(this.getPosicionPlaneta1());
+        double xPosicion2 = PosicionHelper.getX(this.getPosicionPlaneta2());
+        double xPosicion3 = PosicionHelper.getX(this.getPosicionPlaneta3());
+        double yPosicion1 = PosicionHelper.getY(this.getPosicionPlaneta1());
+        double yPosicion2 = PosicionHelper.getY(this.getPosicionPlaneta2());
+        double yPosicion3 = PosicionHelper.getY(this.getPosicionPlaneta3());
+
+        return Math.hypot(xPosicion1 - xPosicion2, yPosicion1 - yPosicion2) +
+                Math.hypot(xPosicion1 - xPosicion3, yPosicion1 - yPosicion3) +
+                Math.hypot(xPosicion2 - xPosicion3, yPosicion2 - yPosicion3);
+    }
+
+    public Posicion getPosicionPlaneta1() {
+        return posiciones[0];
+    }
+
+    public Posicion getPosicionPlaneta2() {
+        return posiciones[1];
+    }
+
+    public Posicion getPosicionPlaneta3() {
+        return posiciones[2];
+    }
+
+    public ClimaEnum getTipoClima() {
+        return tipoClima;
+    }
+
+    public void setTipoClima(ClimaEnum tipoClima) {
+        this.tipoClima = tipoClima;
+    }
+
+    public Posicion getPosicion(PlanetaEnum planeta) {
+        int indice = PLANETAS.indexOf(planeta);
+        return indice < 0 ? null : posiciones[indice];
+    }
+
+    public long getDia() {
+        return dia;
+    }
+    public void setDia(long dia) {
+        this.dia = dia;
+    }
+
+    /**
+     * Carga en este día las posiciones de los planetas en un número de día. No calcula el clima.
+     *
+     * @param configuracion la configuración de los planetas
+     * @param numeroDia el número de día
+     * @return este mismo día
+     */
+    public Dia posicionar(Map<PlanetaEnum, PlanetaDTO> configuracion, long numeroDia) {
+        this.setDia(numeroDia);
+        configuracion.forEach((nombre, config) -> getPosicion(nombre)
+                .setGrados(ClimaHelper.calcularGradosEnDia(config.getVelocidad(), config.getOrientacion(), numeroDia)));
+        return this;
+    }
+
+    public int compareTo(DiaDTO dia1) {
+        return (this.getPerimetro() < dia1.getPerimetro()) ? -1 : 1;
+    }
+
+}
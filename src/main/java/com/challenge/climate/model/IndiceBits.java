@@ -0,0 +1,219 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.CuadranteEnum;
+import com.challenge.climate.enums.HemisferioEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.utils.PosicionHelper;
+
+import java.util.BitSet;
+
+/**
+ * Índice de mapas de bits de los días calculados: un {@link BitSet} por clima, por cuadrante y hemisferio de cada
+ * planeta y por intervalo de perímetro, donde el bit {@code n} indica si el día {@code n} cumple la condición.
+ * <p>
+ * Las condiciones se combinan con operaciones de {@link BitSet} que trabajan de a 64 días por palabra, sin volver a
+ * recorrer el almacenamiento. Los perímetros se agrupan en {@link #INTERVALOS_PERIMETRO} intervalos del mismo ancho
+ * entre el mínimo y el máximo: una comparación toma enteros los intervalos de un lado del umbral y solo compara día
+ * por día los del intervalo que lo contiene.
+ */
+public class IndiceBits {
+
+    /**
+     * Cantidad de intervalos en que se agrupan los perímetros.
+     */
+    public static final int INTERVALOS_PERIMETRO = 64;
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+    private static final CuadranteEnum[] CUADRANTES = CuadranteEnum.values();
+    private static final HemisferioEnum[] HEMISFERIOS = HemisferioEnum.values();
+
+    private final AlmacenPronosticos almacen;
+    private final BitSet todos;
+    private final BitSet[] climas;
+    private final BitSet[][] cuadrantes;
+    private final BitSet[][] hemisferios;
+    private final BitSet[] intervalos;
+    private final double perimetroMinimo;
+    private final double perimetroMaximo;
+    private final double anchoIntervalo;
+
+    private IndiceBits(AlmacenPronosticos almacen, double perimetroMinimo, double perimetroMaximo) {
+        int totalDias = almacen.getTotalDias();
+        this.almacen = almacen;
+        this.todos = new BitSet(totalDias + 1);
+        this.todos.set(1, totalDias + 1);
+        this.climas = crear(CLIMAS.length, totalDias);
+        this.cuadrantes = new BitSet[Dia.PLANETAS.size()][];
+        this.hemisferios = new BitSet[Dia.PLANETAS.size()][];
+        for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+            cuadrantes[planeta] = crear(CUADRANTES.length, totalDias);
+        }
+        this.intervalos = crear(INTERVALOS_PERIMETRO, totalDias);
+        this.perimetroMinimo = perimetroMinimo;
+        this.perimetroMaximo = perimetroMaximo;
+        double ancho = (perimetroMaximo - perimetroMinimo) / INTERVALOS_PERIMETRO;
+        this.anchoIntervalo = ancho > 0 ? ancho : 1;
+    }
+
+    private static BitSet[] crear(int cantidad, int totalDias) {
+        BitSet[] mapas = new BitSet[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            mapas[i] = new BitSet(totalDias + 1);
+        }
+        return mapas;
+    }
+
+    /**
+     * Construye el índice recorriendo el almacenamiento dos veces: la primera busca el perímetro mínimo y máximo para
+     * fijar los intervalos y la segunda marca cada día. El cuadrante de cada planeta se obtiene con
+     * {@link PosicionHelper#getCuadrante} y cada hemisferio es la unión de sus dos cuadrantes, igual que en
+     * {@link PosicionHelper#estaEnHemisferioNorte} y las demás.
+     *
+     * @param almacen los días calculados
+     * @return el índice de los días calculados
+     */
+    public static IndiceBits de(AlmacenPronosticos almacen) {
+        int totalDias = almacen.getTotalDias();
+        double minimo = Double.POSITIVE_INFINITY;
+        double maximo = Double.NEGATIVE_INFINITY;
+        for (int dia = 1; dia <= totalDias; dia++) {
+            double perimetro = almacen.getPerimetro(dia);
+            if (!Double.isNaN(perimetro)) {
+                minimo = Math.min(minimo, perimetro);
+                maximo = Math.max(maximo, perimetro);
+            }
+        }
+
+        boolean sinPerimetros = minimo > maximo;
+        IndiceBits indice = new IndiceBits(almacen, sinPerimetros ? 0 : minimo, sinPerimetros ? 0 : maximo);
+        Dia reutilizado = totalDias == 0 ? null : almacen.getDia(1);
+        for (int dia = 1; dia <= totalDias; dia++) {
+            almacen.cargarDia(reutilizado, dia);
+            indice.climas[reutilizado.getTipoClima().ordinal()].set(dia);
+            for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+                Posicion posicion = reutilizado.getPosicion(Dia.PLANETAS.get(planeta));
+                indice.cuadrantes[planeta][PosicionHelper.getCuadrante(posicion).ordinal()].set(dia);
+            }
+            double perimetro = almacen.getPerimetro(dia);
+            if (!Double.isNaN(perimetro)) {
+                indice.intervalos[indice.getIntervalo(perimetro)].set(dia);
+            }
+        }
+
+        for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+            BitSet[] porCuadrante = indice.cuadrantes[planeta];
+            indice.hemisferios[planeta] = new BitSet[HEMISFERIOS.length];
+            for (HemisferioEnum hemisferio : HEMISFERIOS) {
+                BitSet dias = switch (hemisferio) {
+                    case NORTE -> unir(porCuadrante[CuadranteEnum.PRIMERO.ordinal()], porCuadrante[CuadranteEnum.SEGUNDO.ordinal()]);
+                    case SUR -> unir(porCuadrante[CuadranteEnum.TERCERO.ordinal()], porCuadrante[CuadranteEnum.CUARTO.ordinal()]);
+                    case ESTE -> unir(porCuadrante[CuadranteEnum.PRIMERO.ordinal()], porCuadrante[CuadranteEnum.CUARTO.ordinal()]);
+                    case OESTE -> unir(porCuadrante[CuadranteEnum.SEGUNDO.ordinal()], porCuadrante[CuadranteEnum.TERCERO.ordinal()]);
+                };
+                indice.hemisferios[planeta][hemisferio.ordinal()] = dias;
+            }
+        }
+        return indice;
+    }
+
+    private static BitSet unir(BitSet primero, BitSet segundo) {
+        BitSet union = (BitSet) primero.clone();
+        union.or(segundo);
+        return union;
+    }
+
+    private int getIntervalo(double perimetro) {
+        return (int) Math.min(INTERVALOS_PERIMETRO - 1, Math.max(0, (perimetro - perimetroMinimo) / anchoIntervalo));
+    }
+
+    public int getTotalDias() {
+        return almacen.getTotalDias();
+    }
+
+    /**
+     * @return una copia, que se puede modificar, de los días calculados
+     */
+    public BitSet getTodos() {
+        return (BitSet) todos.clone();
+    }
+
+    /**
+     * @param clima el tipo de clima
+     * @return una copia, que se puede modificar, de los días con ese clima
+     */
+    public BitSet getClima(ClimaEnum clima) {
+        return (BitSet) climas[clima.ordinal()].clone();
+    }
+
+    /**
+     * @param planeta el planeta, uno de {@link Dia#PLANETAS}
+     * @param cuadrante el cuadrante
+     * @return una copia, que se puede modificar, de los días en que el planeta está en ese cuadrante
+     */
+    public BitSet getCuadrante(PlanetaEnum planeta, CuadranteEnum cuadrante) {
+        return (BitSet) cuadrantes[Dia.PLANETAS.indexOf(planeta)][cuadrante.ordinal()].clone();
+    }
+
+    /**
+     * @param planeta el planeta, uno de {@link Dia#PLANETAS}
+     * @param hemisferio el hemisferio
+     * @return una copia, que se puede modificar, de los días en que el planeta está en ese hemisferio, sin contar
+     * los días en que está sobre un eje
+     */
+    public BitSet getHemisferio(PlanetaEnum planeta, HemisferioEnum hemisferio) {
+        return (BitSet) hemisferios[Dia.PLANETAS.indexOf(planeta)][hemisferio.ordinal()].clone();
+    }
+
+    /**
+     * Obtiene los días con perímetro mayor a un umbral: la unión de los intervalos por encima del que contiene al
+     * umbral, más los días de ese intervalo que lo superan.
+     *
+     * @param umbral el perímetro que deben superar
+     * @return un nuevo {@link BitSet} con los días de perímetro estrictamente mayor al umbral
+     */
+    public BitSet getPerimetroMayor(double umbral) {
+        BitSet dias = new BitSet(getTotalDias() + 1);
+        if (Double.isNaN(umbral) || umbral >= perimetroMaximo) {
+            return dias;
+        }
+
+        int intervalo = getIntervalo(umbral);
+        for (int siguiente = intervalo + 1; siguiente < INTERVALOS_PERIMETRO; siguiente++) {
+            dias.or(intervalos[siguiente]);
+        }
+        BitSet limite = intervalos[intervalo];
+        for (int dia = limite.nextSetBit(0); dia >= 0; dia = limite.nextSetBit(dia + 1)) {
+            if (almacen.getPerimetro(dia) > umbral) {
+                dias.set(dia);
+            }
+        }
+        return dias;
+    }
+
+    /**
+     * Obtiene los días con perímetro menor a un umbral: la unión de los intervalos por debajo del que contiene al
+     * umbral, más los días de ese intervalo que no lo alcanzan.
+     *
+     * @param umbral el perímetro que no deben alcanzar
+     * @return un nuevo {@link BitSet} con los días de perímetro estrictamente menor al umbral
+     */
+    public BitSet getPerimetroMenor(double umbral) {
+        BitSet dias = new BitSet(getTotalDias() + 1);
+        if (Double.isNaN(umbral) || umbral <= perimetroMinimo) {
+            return dias;
+        }
+
+        int intervalo = getIntervalo(umbral);
+        for (int anterior = 0; anterior < intervalo; anterior++) {
+            dias.or(intervalos[anterior]);
+        }
+        BitSet limite = intervalos[intervalo];
+        for (int dia = limite.nextSetBit(0); dia >= 0; dia = limite.nextSetBit(dia + 1)) {
+            if (almacen.getPerimetro(dia) < umbral) {
+                dias.set(dia);
+            }
+        }
+        return dias;
+    }
+}
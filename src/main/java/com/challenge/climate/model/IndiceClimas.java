@@ -0,0 +1,88 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Índice invertido de los días calculados: para cada clima, los números de día ordenados de menor a mayor.
+ */
+public class IndiceClimas {
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+
+    private final Map<ClimaEnum, int[]> dias;
+
+    private IndiceClimas(Map<ClimaEnum, int[]> dias) {
+        this.dias = dias;
+    }
+
+    /**
+     * Construye el índice recorriendo el almacenamiento dos veces: la primera cuenta los días de cada clima
+     * para reservar los arreglos exactos y la segunda los completa.
+     *
+     * @param almacen los días calculados
+     * @return el índice de los días de cada clima
+     */
+    public static IndiceClimas de(AlmacenPronosticos almacen) {
+        int totalDias = almacen.getTotalDias();
+        int[] conteos = new int[CLIMAS.length];
+        for (int dia = 1; dia <= totalDias; dia++) {
+            conteos[almacen.getClima(dia).ordinal()]++;
+        }
+
+        int[][] porClima = new int[CLIMAS.length][];
+        for (int clima = 0; clima < CLIMAS.length; clima++) {
+            porClima[clima] = new int[conteos[clima]];
+        }
+        int[] siguiente = new int[CLIMAS.length];
+        for (int dia = 1; dia <= totalDias; dia++) {
+            int clima = almacen.getClima(dia).ordinal();
+            porClima[clima][siguiente[clima]++] = dia;
+        }
+
+        Map<ClimaEnum, int[]> dias = new EnumMap<>(ClimaEnum.class);
+        for (ClimaEnum clima : CLIMAS) {
+            dias.put(clima, porClima[clima.ordinal()]);
+        }
+        return new IndiceClimas(dias);
+    }
+
+    /**
+     * @param clima el tipo de clima
+     * @return la cantidad de días con ese clima
+     */
+    public int contar(ClimaEnum clima) {
+        return dias.get(clima).length;
+    }
+
+    /**
+     * Obtiene el día que ocupa una posición entre los días de un clima.
+     *
+     * @param clima el tipo de clima
+     * @param posicion la posición, entre 0 y {@link #contar(ClimaEnum)} - 1
+     * @return el número de día
+     */
+    public int getDia(ClimaEnum clima, int posicion) {
+        return dias.get(clima)[posicion];
+    }
+
+    /**
+     * Busca la posición del primer día de un clima que no es anterior a un día dado.
+     *
+     * @param clima el tipo de clima
+     * @param desde el número de día desde el cual buscar
+     * @return la posición del primer día mayor o igual a {@code desde}, o {@link #contar(ClimaEnum)} si no hay
+     */
+    public int buscar(ClimaEnum clima, long desde) {
+        int[] diasClima = dias.get(clima);
+        if (desde > Integer.MAX_VALUE) {
+            return diasClima.length;
+        }
+
+        int posicion = Arrays.binarySearch(diasClima, (int) Math.max(desde, 1));
+        return posicion >= 0 ? posicion : -posicion - 1;
+    }
+}
@@ -0,0 +1,93 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+
+import java.util.Arrays;
+
+/**
+ * Línea temporal de los días calculados comprimida por tramos: cada periodo es una sucesión de días
+ * consecutivos con el mismo clima, guardado como su primer día, su clima y el perímetro máximo del periodo.
+ */
+public class LineaTemporalClimas {
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+
+    private final int totalDias;
+    private final int[] inicios;
+    private final byte[] climas;
+    private final double[] perimetrosMaximos;
+
+    private LineaTemporalClimas(int totalDias, int[] inicios, byte[] climas, double[] perimetrosMaximos) {
+        this.totalDias = totalDias;
+        this.inicios = inicios;
+        this.climas = climas;
+        this.perimetrosMaximos = perimetrosMaximos;
+    }
+
+    /**
+     * Construye la línea temporal recorriendo el almacenamiento una vez.
+     *
+     * @param almacen los días calculados
+     * @return la línea temporal de los días calculados
+     */
+    public static LineaTemporalClimas de(AlmacenPronosticos almacen) {
+        int totalDias = almacen.getTotalDias();
+        int[] inicios = new int[16];
+        byte[] climas = new byte[16];
+        double[] perimetrosMaximos = new double[16];
+        int cantidad = 0;
+
+        for (int dia = 1; dia <= totalDias; dia++) {
+            byte clima = (byte) almacen.getClima(dia).ordinal();
+            double perimetro = almacen.getPerimetro(dia);
+
+            if (cantidad > 0 && climas[cantidad - 1] == clima) {
+                perimetrosMaximos[cantidad - 1] = Math.max(perimetrosMaximos[cantidad - 1], perimetro);
+                continue;
+            }
+            if (cantidad == inicios.length) {
+                inicios = Arrays.copyOf(inicios, cantidad * 2);
+                climas = Arrays.copyOf(climas, cantidad * 2);
+                perimetrosMaximos = Arrays.copyOf(perimetrosMaximos, cantidad * 2);
+            }
+            inicios[cantidad] = dia;
+            climas[cantidad] = clima;
+            perimetrosMaximos[cantidad] = perimetro;
+            cantidad++;
+        }
+
+        return new LineaTemporalClimas(totalDias, Arrays.copyOf(inicios, cantidad), Arrays.copyOf(climas, cantidad),
+                Arrays.copyOf(perimetrosMaximos, cantidad));
+    }
+
+    public int getCantidad() {
+        return inicios.length;
+    }
+
+    /**
+     * Busca el periodo que contiene un día.
+     *
+     * @param dia el número de día, entre 1 y el total de días calculados
+     * @return la posición del periodo
+     */
+    public int buscar(long dia) {
+        int posicion = Arrays.binarySearch(inicios, (int) dia);
+        return posicion >= 0 ? posicion : -posicion - 2;
+    }
+
+    public int getInicio(int periodo) {
+        return inicios[periodo];
+    }
+
+    public int getFin(int periodo) {
+        return periodo + 1 < inicios.length ? inicios[periodo + 1] - 1 : totalDias;
+    }
+
+    public ClimaEnum getClima(int periodo) {
+        return CLIMAS[climas[periodo]];
+    }
+
+    public double getPerimetroMaximo(int periodo) {
+        return perimetrosMaximos[periodo];
+    }
+}
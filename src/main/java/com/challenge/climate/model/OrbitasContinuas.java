@@ -0,0 +1,156 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.utils.ClimaHelper;
+
+import java.util.Map;
+
+import static com.challenge.climate.utils.Constantes.GRADOS_360;
+
+/**
+ * Órbitas de los tres planetas como funciones continuas del tiempo.
+ * <p>
+ * Cada planeta empieza en el ángulo 0 y gira a velocidad constante, así que en el instante t su ángulo es
+ * velocidad · t, con t en días y decimales. En los instantes enteros coincide con {@link Dia}. Las funciones que
+ * definen los climas son sumas de senos de las diferencias de ángulos y tienen derivadas cerradas.
+ */
+public class OrbitasContinuas {
+
+    private static final int PLANETAS = 3;
+
+    private final double[] radios = new double[PLANETAS];
+    private final int[] velocidadesGrados = new int[PLANETAS];
+    private final double[] velocidades = new double[PLANETAS];
+
+    /**
+     * @param configuracion la configuración de Ferengi, Betasoide y Vulcano; se usan en el orden de {@link Dia#PLANETAS}
+     */
+    public OrbitasContinuas(Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            PlanetaDTO config = configuracion.get(Dia.PLANETAS.get(planeta));
+            radios[planeta] = config.getRadio();
+            velocidadesGrados[planeta] = config.getOrientacion() == OrientacionEnum.HORARIA ? -config.getVelocidad() : config.getVelocidad();
+            velocidades[planeta] = Math.toRadians(velocidadesGrados[planeta]);
+        }
+    }
+
+    /**
+     * @return el periodo de las órbitas en tiempo continuo, 360 / mcd(velocidades), o 0 si ningún planeta se mueve
+     */
+    public double getPeriodo() {
+        long mcd = 0;
+        for (int velocidad : velocidadesGrados) {
+            mcd = ClimaHelper.mcd(Math.abs(velocidad), mcd);
+        }
+        return mcd == 0 ? 0 : (double) GRADOS_360 / mcd;
+    }
+
+    /**
+     * @return la diferencia de velocidad entre dos planetas, en grados por día
+     */
+    public int getVelocidadRelativa(int planeta, int otro) {
+        return velocidadesGrados[otro] - velocidadesGrados[planeta];
+    }
+
+    /**
+     * @return la mayor velocidad relativa entre dos planetas, en radianes por día
+     */
+    public double getVelocidadRelativaMaxima() {
+        double maxima = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            maxima = Math.max(maxima, Math.abs(velocidades[(planeta + 1) % PLANETAS] - velocidades[planeta]));
+        }
+        return maxima;
+    }
+
+    /**
+     * @return la mayor área orientada posible, la suma de los productos de los radios de cada lado
+     */
+    public double getAreaOrientadaMaxima() {
+        double maxima = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            maxima += radios[planeta] * radios[(planeta + 1) % PLANETAS];
+        }
+        return maxima;
+    }
+
+    /**
+     * Calcula el producto cruz (p2 - p1) x (p3 - p1). Vale 0 cuando los planetas están alineados.
+     *
+     * @param t el instante
+     * @return el doble del área con signo del triángulo
+     */
+    public double getAreaOrientada(double t) {
+        double area = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            area += getOrientacionSol(planeta, (planeta + 1) % PLANETAS, t);
+        }
+        return area;
+    }
+
+    /**
+     * @return la derivada de {@link #getAreaOrientada(double)}
+     */
+    public double getDerivadaAreaOrientada(double t) {
+        double derivada = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            int otro = (planeta + 1) % PLANETAS;
+            double velocidadRelativa = velocidades[otro] - velocidades[planeta];
+            derivada += radios[planeta] * radios[otro] * velocidadRelativa * Math.cos(velocidadRelativa * t);
+        }
+        return derivada;
+    }
+
+    /**
+     * Calcula el producto cruz pi x pj, que indica de qué lado de la recta de pi a pj está el sol.
+     *
+     * @return positivo si el sol está a la izquierda, 0 si está sobre la recta
+     */
+    public double getOrientacionSol(int planeta, int otro, double t) {
+        return radios[planeta] * radios[otro] * Math.sin((velocidades[otro] - velocidades[planeta]) * t);
+    }
+
+    /**
+     * @return true si el sol está estrictamente dentro del triángulo
+     */
+    public boolean contieneSol(double t) {
+        double orientacion12 = getOrientacionSol(0, 1, t);
+        double orientacion23 = getOrientacionSol(1, 2, t);
+        double orientacion31 = getOrientacionSol(2, 0, t);
+        return (orientacion12 > 0 && orientacion23 > 0 && orientacion31 > 0)
+                || (orientacion12 < 0 && orientacion23 < 0 && orientacion31 < 0);
+    }
+
+    public double getPerimetro(double t) {
+        double perimetro = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            perimetro += getDistancia(planeta, (planeta + 1) % PLANETAS, t);
+        }
+        return perimetro;
+    }
+
+    /**
+     * @return la derivada de {@link #getPerimetro(double)}; cada lado de longitud 0 aporta 0
+     */
+    public double getDerivadaPerimetro(double t) {
+        double derivada = 0;
+        for (int planeta = 0; planeta < PLANETAS; planeta++) {
+            int otro = (planeta + 1) % PLANETAS;
+            double distancia = getDistancia(planeta, otro, t);
+            if (distancia > 0) {
+                double velocidadRelativa = velocidades[otro] - velocidades[planeta];
+                derivada += radios[planeta] * radios[otro] * velocidadRelativa * Math.sin(velocidadRelativa * t) / distancia;
+            }
+        }
+        return derivada;
+    }
+
+    private double getDistancia(int planeta, int otro, double t) {
+        double angulo = (velocidades[otro] - velocidades[planeta]) * t;
+        double cuadrado = radios[planeta] * radios[planeta] + radios[otro] * radios[otro]
+                - 2 * radios[planeta] * radios[otro] * Math.cos(angulo);
+        return Math.sqrt(Math.max(cuadrado, 0));
+    }
+}
@@ -1,31 +1,40 @@
-package com.challenge.climate.model;
-
-import com.challenge.climate.enums.PlanetaEnum;
-
-public class Planeta {
-
-    private PlanetaEnum nombre;
-    private double radio;
-
-    public Planeta(PlanetaEnum nombre, double radio)	{
-        this.setNombre(nombre);
-        this.setRadio(radio);
-    }
-
-    public double getRadio() {
-        return radio;
-    }
-
-    public void setRadio(double radio) {
-        this.radio = radio;
-    }
-
-    public PlanetaEnum getNombre() {
-        return nombre;
-    }
-
-    public void setNombre(PlanetaEnum nombre) {
-        this.nombre = nombre;
-    }
-
-}
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.utils.TablaCoordenadas;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class Planeta {
+
+    private PlanetaEnum nombre;
+    private double radio;
+    private TablaCoordenadas coordenadas;
+
+    public Planeta(PlanetaEnum nombre, double radio)	{
+        this.setNombre(nombre);
+        this.setRadio(radio);
+    }
+
+    public double getRadio() {
+        return radio;
+    }
+
+    public void setRadio(double radio) {
+        this.radio = radio;
+        this.coordenadas = TablaCoordenadas.de(radio);
+    }
+
+    @JsonIgnore
+    public TablaCoordenadas getCoordenadas() {
+        return coordenadas;
+    }
+
+    public PlanetaEnum getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(PlanetaEnum nombre) {
+        this.nombre = nombre;
+    }
+
+}
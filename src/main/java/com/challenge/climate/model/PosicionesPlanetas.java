@@ -0,0 +1,98 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.GeometriaHelper;
+import com.challenge.climate.utils.TablaCoordenadas;
+
+/**
+ * Posiciones de los planetas de un {@link SistemaPlanetario} en un día, en arreglos primitivos contiguos:
+ * los grados y las coordenadas enteras de cada planeta, y la envolvente convexa de esas coordenadas.
+ * <p>
+ * Los arreglos se reservan una vez y se reutilizan para cada día, así que una instancia no debe compartirse
+ * entre hilos.
+ */
+public class PosicionesPlanetas {
+
+    private final SistemaPlanetario sistema;
+    private final int[] grados;
+    private final long[] x;
+    private final long[] y;
+    private final long[] puntos;
+    private final long[] envolventeX;
+    private final long[] envolventeY;
+    private int tamanoEnvolvente;
+    private long dia;
+
+    public PosicionesPlanetas(SistemaPlanetario sistema) {
+        int cantidad = sistema.getCantidad();
+        this.sistema = sistema;
+        this.grados = new int[cantidad];
+        this.x = new long[cantidad];
+        this.y = new long[cantidad];
+        this.puntos = new long[cantidad];
+        this.envolventeX = new long[cantidad + 1];
+        this.envolventeY = new long[cantidad + 1];
+    }
+
+    /**
+     * Calcula las posiciones y la envolvente convexa de un día.
+     *
+     * @param numeroDia el número de día
+     * @return esta misma instancia, con las posiciones del día
+     */
+    public PosicionesPlanetas calcular(long numeroDia) {
+        dia = numeroDia;
+        for (int planeta = 0; planeta < grados.length; planeta++) {
+            TablaCoordenadas coordenadas = sistema.getCoordenadas(planeta);
+            int gradosPlaneta = ClimaHelper.calcularGradosEnDia(sistema.getVelocidad(planeta), sistema.getOrientacion(planeta), numeroDia);
+            grados[planeta] = gradosPlaneta;
+            x[planeta] = (long) coordenadas.getX(gradosPlaneta);
+            y[planeta] = (long) coordenadas.getY(gradosPlaneta);
+            puntos[planeta] = GeometriaHelper.empaquetar(x[planeta], y[planeta]);
+        }
+        tamanoEnvolvente = GeometriaHelper.envolventeConvexa(puntos, grados.length, envolventeX, envolventeY);
+        return this;
+    }
+
+    public long getDia() {
+        return dia;
+    }
+
+    public int getCantidad() {
+        return grados.length;
+    }
+
+    public int getGrados(int planeta) {
+        return grados[planeta];
+    }
+
+    public long getX(int planeta) {
+        return x[planeta];
+    }
+
+    public long getY(int planeta) {
+        return y[planeta];
+    }
+
+    /**
+     * @return los vértices de la envolvente en sentido antihorario, sin puntos colineales
+     */
+    public int getTamanoEnvolvente() {
+        return tamanoEnvolvente;
+    }
+
+    public long[] getEnvolventeX() {
+        return envolventeX;
+    }
+
+    public long[] getEnvolventeY() {
+        return envolventeY;
+    }
+
+    /**
+     * @return el perímetro de la envolvente convexa; con tres planetas es el perímetro del triángulo
+     */
+    public double getPerimetro() {
+        return GeometriaHelper.perimetro(envolventeX, envolventeY, tamanoEnvolvente);
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.climate.model;
+
+/**
+ * Respuesta ya serializada a JSON, con su versión comprimida en gzip y su ETag.
+ *
+ * @param etag el ETag fuerte de la respuesta, entre comillas
+ * @param json los bytes del JSON
+ * @param gzip los bytes del JSON comprimido con gzip
+ */
+public record RespuestaSerializada(String etag, byte[] json, byte[] gzip) {
+
+}
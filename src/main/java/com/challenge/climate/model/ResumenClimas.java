@@ -0,0 +1,97 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Conteo de climas y candidato a día de mayor lluvia de un tramo de días.
+ * <p>
+ * Cada tramo se resume por separado y los resúmenes se combinan en orden de días, así el día de mayor
+ * lluvia es siempre el primero con perímetro máximo, sin importar cómo se dividió el horizonte.
+ */
+public class ResumenClimas {
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+
+    private final long[] conteos;
+    private long diaMayorLluvia;
+    private double perimetroMaximo;
+
+    public ResumenClimas() {
+        this(new long[CLIMAS.length], 0, 0);
+    }
+
+    /**
+     * Crea un resumen ya calculado, por ejemplo el guardado en un snapshot.
+     *
+     * @param conteos la cantidad de días de cada clima, indexada por ordinal
+     * @param diaMayorLluvia el primer día de lluvia con perímetro máximo, o 0 si no hubo
+     * @param perimetroMaximo el perímetro de ese día
+     */
+    public ResumenClimas(long[] conteos, long diaMayorLluvia, double perimetroMaximo) {
+        this.conteos = conteos;
+        this.diaMayorLluvia = diaMayorLluvia;
+        this.perimetroMaximo = perimetroMaximo;
+    }
+
+    /**
+     * Registra un día. Los días deben registrarse en orden creciente.
+     *
+     * @param dia el número de día
+     * @param clima el clima del día
+     * @param perimetro el perímetro del triángulo del día
+     */
+    public void registrar(long dia, ClimaEnum clima, double perimetro) {
+        conteos[clima.ordinal()]++;
+        if (clima == ClimaEnum.LLUVIA && (diaMayorLluvia == 0 || perimetro > perimetroMaximo)) {
+            diaMayorLluvia = dia;
+            perimetroMaximo = perimetro;
+        }
+    }
+
+    /**
+     * Agrega el resumen de un tramo posterior a este.
+     *
+     * @param posterior el resumen de los días siguientes
+     * @return este resumen, con los conteos sumados
+     */
+    public ResumenClimas combinar(ResumenClimas posterior) {
+        for (int clima = 0; clima < CLIMAS.length; clima++) {
+            conteos[clima] += posterior.conteos[clima];
+        }
+        if (posterior.diaMayorLluvia != 0 && (diaMayorLluvia == 0 || posterior.perimetroMaximo > perimetroMaximo)) {
+            diaMayorLluvia = posterior.diaMayorLluvia;
+            perimetroMaximo = posterior.perimetroMaximo;
+        }
+        return this;
+    }
+
+    /**
+     * Obtiene el primer día de lluvia con perímetro máximo.
+     *
+     * @return el número de día, o 0 si no hubo días de lluvia
+     */
+    public long getDiaMayorLluvia() {
+        return diaMayorLluvia;
+    }
+
+    public double getPerimetroMaximo() {
+        return perimetroMaximo;
+    }
+
+    /**
+     * Obtiene el conteo de cada tipo de clima.
+     *
+     * @return un mapa no modificable con el conteo de cada clima, incluidos los que no aparecieron
+     */
+    public Map<ClimaEnum, Long> getTotales() {
+        Map<ClimaEnum, Long> totales = new EnumMap<>(ClimaEnum.class);
+        for (ClimaEnum clima : CLIMAS) {
+            totales.put(clima, conteos[clima.ordinal()]);
+        }
+        return Collections.unmodifiableMap(totales);
+    }
+}
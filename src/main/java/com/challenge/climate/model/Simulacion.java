@@ -0,0 +1,142 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resultado de un cálculo de pronósticos. No se modifica después de creado y puede compartirse entre hilos.
+ */
+public class Simulacion {
+
+    private final long huella;
+    private final Map<PlanetaEnum, PlanetaDTO> configuracion;
+    private final AlmacenPronosticos almacen;
+    private final CicloClimatico ciclo;
+    private final ResumenClimas resumen;
+    private volatile IndiceClimas indice;
+    private volatile IndiceBits indiceBits;
+    private volatile LineaTemporalClimas lineaTemporal;
+
+    /**
+     * @param huella el hash de la configuración de los planetas y del clasificador usado
+     * @param configuracion la configuración de los planetas
+     * @param almacen los días calculados
+     * @param ciclo el ciclo de las órbitas
+     * @param resumen el conteo de climas y el día de mayor lluvia de todos los días calculados
+     */
+    public Simulacion(long huella, Map<PlanetaEnum, PlanetaDTO> configuracion, AlmacenPronosticos almacen,
+                      CicloClimatico ciclo, ResumenClimas resumen) {
+        this.huella = huella;
+        this.configuracion = Collections.unmodifiableMap(new EnumMap<>(configuracion));
+        this.almacen = almacen;
+        this.ciclo = ciclo;
+        this.resumen = resumen;
+    }
+
+    public long getHuella() {
+        return huella;
+    }
+
+    public Map<PlanetaEnum, PlanetaDTO> getConfiguracion() {
+        return configuracion;
+    }
+
+    public AlmacenPronosticos getAlmacen() {
+        return almacen;
+    }
+
+    /**
+     * @return el ciclo de las órbitas
+     */
+    public CicloClimatico getCiclo() {
+        return ciclo;
+    }
+
+    /**
+     * Obtiene el índice de los días de cada clima. Se construye la primera vez que se pide.
+     *
+     * @return el {@link IndiceClimas} de los días calculados
+     */
+    public IndiceClimas getIndice() {
+        IndiceClimas actual = indice;
+        if (actual == null) {
+            synchronized (this) {
+                if (indice == null) {
+                    indice = IndiceClimas.de(almacen);
+                }
+                actual = indice;
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Obtiene el índice de mapas de bits de los climas, cuadrantes, hemisferios y perímetros de los días.
+     * Se construye la primera vez que se pide.
+     *
+     * @return el {@link IndiceBits} de los días calculados
+     */
+    public IndiceBits getIndiceBits() {
+        IndiceBits actual = indiceBits;
+        if (actual == null) {
+            synchronized (this) {
+                if (indiceBits == null) {
+                    indiceBits = IndiceBits.de(almacen);
+                }
+                actual = indiceBits;
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Obtiene la línea temporal de los periodos de cada clima. Se construye la primera vez que se pide.
+     *
+     * @return la {@link LineaTemporalClimas} de los días calculados
+     */
+    public LineaTemporalClimas getLineaTemporal() {
+        LineaTemporalClimas actual = lineaTemporal;
+        if (actual == null) {
+            synchronized (this) {
+                if (lineaTemporal == null) {
+                    lineaTemporal = LineaTemporalClimas.de(almacen);
+                }
+                actual = lineaTemporal;
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Obtiene las condiciones climáticas de todo el horizonte calculado.
+     *
+     * @return un nuevo {@link CondicionesClimaticasDTO} con el conteo de cada clima y el día de mayor lluvia
+     */
+    public CondicionesClimaticasDTO getCondiciones() {
+        long diaMayorLluvia = resumen.getDiaMayorLluvia();
+        return new CondicionesClimaticasDTO(diaMayorLluvia == 0 ? null : almacen.getDia((int) diaMayorLluvia), resumen.getTotales());
+    }
+
+    /**
+     * @return el conteo de cada clima en el horizonte calculado, indexado por ordinal
+     */
+    public long[] getConteos() {
+        long[] conteos = new long[ClimaEnum.values().length];
+        resumen.getTotales().forEach((clima, cantidad) -> conteos[clima.ordinal()] = cantidad);
+        return conteos;
+    }
+
+    public long getDiaMayorLluvia() {
+        return resumen.getDiaMayorLluvia();
+    }
+
+    public double getPerimetroMayorLluvia() {
+        return resumen.getPerimetroMaximo();
+    }
+}
@@ -0,0 +1,55 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.TablaCoordenadas;
+
+/**
+ * Configuración de un sistema de cualquier cantidad de planetas, guardada como un arreglo por atributo.
+ * El planeta i es la posición i de cada arreglo.
+ */
+public class SistemaPlanetario {
+
+    private final int[] velocidades;
+    private final OrientacionEnum[] orientaciones;
+    private final TablaCoordenadas[] coordenadas;
+    private final long periodo;
+
+    /**
+     * @param radios el radio de la órbita de cada planeta
+     * @param orientaciones el sentido de giro de cada planeta
+     * @param velocidades la velocidad angular de cada planeta, en grados por día
+     */
+    public SistemaPlanetario(double[] radios, OrientacionEnum[] orientaciones, int[] velocidades) {
+        this.velocidades = velocidades.clone();
+        this.orientaciones = orientaciones.clone();
+        this.coordenadas = new TablaCoordenadas[radios.length];
+        for (int planeta = 0; planeta < radios.length; planeta++) {
+            coordenadas[planeta] = TablaCoordenadas.de(radios[planeta]);
+        }
+        this.periodo = ClimaHelper.calcularPeriodo(this.velocidades);
+    }
+
+    public int getCantidad() {
+        return velocidades.length;
+    }
+
+    /**
+     * @return la cantidad de días tras la cual se repiten todas las posiciones
+     */
+    public long getPeriodo() {
+        return periodo;
+    }
+
+    public int getVelocidad(int planeta) {
+        return velocidades[planeta];
+    }
+
+    public OrientacionEnum getOrientacion(int planeta) {
+        return orientaciones[planeta];
+    }
+
+    public TablaCoordenadas getCoordenadas(int planeta) {
+        return coordenadas[planeta];
+    }
+}
@@ -0,0 +1,62 @@
+package com.challenge.climate.model;
+
+/**
+ * Sparse table para obtener en tiempo constante la posición del máximo de cualquier rango de un arreglo.
+ * <p>
+ * La fila k guarda, para cada posición i, la posición del máximo de los 2^k valores que empiezan en i.
+ * Un rango se cubre con dos bloques solapados de la misma potencia de dos. Ante valores iguales se elige
+ * siempre la posición menor, así que el resultado es el primer máximo del rango.
+ */
+public class TablaMaximos {
+
+    private final double[] valores;
+    private final int[][] tabla;
+
+    /**
+     * @param valores los valores a consultar; {@link Double#NEGATIVE_INFINITY} marca las posiciones que no
+     *                deben elegirse nunca
+     */
+    public TablaMaximos(double[] valores) {
+        this.valores = valores;
+        int niveles = valores.length == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(valores.length);
+        this.tabla = new int[niveles][];
+
+        tabla[0] = new int[valores.length];
+        for (int posicion = 0; posicion < valores.length; posicion++) {
+            tabla[0][posicion] = posicion;
+        }
+        for (int nivel = 1; nivel < niveles; nivel++) {
+            int mitad = 1 << (nivel - 1);
+            int[] anterior = tabla[nivel - 1];
+            int[] actual = new int[valores.length - (1 << nivel) + 1];
+            for (int posicion = 0; posicion < actual.length; posicion++) {
+                actual[posicion] = elegir(anterior[posicion], anterior[posicion + mitad]);
+            }
+            tabla[nivel] = actual;
+        }
+    }
+
+    /**
+     * Busca el primer máximo de un rango.
+     *
+     * @param desde la primera posición del rango
+     * @param hasta la última posición del rango, inclusive
+     * @return la posición del primer máximo, o -1 si todas las posiciones del rango están marcadas
+     */
+    public int buscar(int desde, int hasta) {
+        int nivel = 31 - Integer.numberOfLeadingZeros(hasta - desde + 1);
+        int posicion = elegir(tabla[nivel][desde], tabla[nivel][hasta - (1 << nivel) + 1]);
+        return valores[posicion] == Double.NEGATIVE_INFINITY ? -1 : posicion;
+    }
+
+    public double getValor(int posicion) {
+        return valores[posicion];
+    }
+
+    private int elegir(int primera, int segunda) {
+        if (valores[segunda] > valores[primera] || (valores[segunda] == valores[primera] && segunda < primera)) {
+            return segunda;
+        }
+        return primera;
+    }
+}
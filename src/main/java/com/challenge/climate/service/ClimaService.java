@@ -1,149 +1,479 @@
-package com.challenge.climate.service;
-
-import com.challenge.climate.dto.CondicionesClimaticasDTO;
-import com.challenge.climate.dto.DiaDTO;
-import com.challenge.climate.dto.PlanetaDTO;
-import com.challenge.climate.dto.PronosticoDTO;
-import com.challenge.climate.enums.ClimaEnum;
-import com.challenge.climate.enums.OrientacionEnum;
-import com.challenge.climate.enums.PlanetaEnum;
-import com.challenge.climate.model.*;
-import com.challenge.climate.utils.ClimaHelper;
-import org.springframework.stereotype.Service;
-
-import java.util.*;
-
-@Service
-public class ClimaService {
-
-    private Map<PlanetaEnum, PlanetaDTO> planetaConfigMap;
-    private Map<Integer, Dia> dias;
-    private Map<ClimaEnum, Long> climaCountMap;
-    private Posicion posicionSol;
-    private Map<Integer, PronosticoDTO> pronosticos;
-
-    /**
-     * Calcula los pronósticos climáticos para un número de días dado.
-     *
-     * @param dias el número de días para calcular los pronósticos
-     * @return un objeto CondicionesClimaticasDTO con el día de mayor lluvia y un mapa con el conteo de cada tipo de clima
-     */
-    public CondicionesClimaticasDTO calcularPronosticos(int dias) {
-        setUp();
-        calcularPosiciones(dias);
-        calcularClimas();
-        return new CondicionesClimaticasDTO(obtenerDiaMayorLluvia(), climaCountMap);
-    }
-
-    /**
-     * Configura los datos iniciales necesarios para los cálculos.
-     */
-    private void setUp() {
-        planetaConfigMap = new HashMap<>();
-        pronosticos = new HashMap<>();
-        planetaConfigMap.put(PlanetaEnum.FERENGI, new PlanetaDTO(PlanetaEnum.FERENGI, 500.0, OrientacionEnum.HORARIA, 1));
-        planetaConfigMap.put(PlanetaEnum.BETASOIDE, new PlanetaDTO(PlanetaEnum.BETASOIDE, 2000.0, OrientacionEnum.HORARIA, 3));
-        planetaConfigMap.put(PlanetaEnum.VULCANO, new PlanetaDTO(PlanetaEnum.VULCANO, 1000.0, OrientacionEnum.ANTIHORARIA, 5));
-
-        dias = new HashMap<>();
-        climaCountMap = new HashMap<>();
-        posicionSol = new Posicion(new Planeta(PlanetaEnum.SOL, 0), 90);
-    }
-
-    /**
-     * Obtiene el día con mayor cantidad de lluvia.
-     * El dia con mayor lluvia es aquel que tiene el maximo valor de perimetro.
-     *
-     * @return el día con mayor cantidad de lluvia, o null si no hay días de lluvia
-     */
-    private Dia obtenerDiaMayorLluvia() {
-        return dias.values().stream()
-                .filter(dia -> dia.getTipoClima().equals(ClimaEnum.LLUVIA))
-                .max(Comparator.comparing(Dia::getPerimetro))
-                .orElse(null);
-    }
-
-    /**
-     * Calcula las posiciones de los planetas para un número total de días.
-     *
-     * @param totalDias el número total de días para calcular las posiciones
-     */
-    private void calcularPosiciones(int totalDias) {
-        for (int i = 0; i < totalDias; i++) {
-            Dia diaAnterior = dias.get(i);
-            dias.put(i + 1, calcularDia(i + 1, diaAnterior));
-        }
-    }
-
-    /**
-     * Calcula la información del clima para un día específico.
-     *
-     * @param diaNumero el número del día a calcular
-     * @param diaAnterior la información del día anterior
-     * @return la información del día calculado
-     */
-    private Dia calcularDia(int diaNumero, Dia diaAnterior) {
-        Dia dia = new Dia(diaNumero, planetaConfigMap);
-        planetaConfigMap.forEach((nombrePlaneta, config) -> calcularPosicion(dia, config, diaAnterior));
-        return dia;
-    }
-
-    /**
-     * Calcula la posición de un planeta en un día específico.
-     *
-     * @param dia la información del día
-     * @param config la configuración del planeta
-     * @param diaAnterior la información del día anterior
-     */
-    private void calcularPosicion(Dia dia, PlanetaDTO config, Dia diaAnterior) {
-        int gradosPrevios = diaAnterior == null ? 0 : diaAnterior.getPosicion(config.getNombre()).getGrados();
-        int nuevosGrados = ClimaHelper.calcularGrados(config.getVelocidad(), config.getOrientacion(), gradosPrevios);
-        dia.getPosicion(config.getNombre()).setGrados(nuevosGrados);
-    }
-
-    /**
-     * Calcula los tipos de climas para todos los días.
-     */
-    private void calcularClimas() {
-        dias.forEach((dia, diaObj) -> {
-            calcularClimaDia(diaObj);
-            guardarClima(diaObj);
-            climaCountMap.merge(diaObj.getTipoClima(), 1L, Long::sum);
-        });
-    }
-
-    /**
-     * Guarda la información del clima de un día especifico.
-     *
-     * @param dia {@link Dia}
-     */
-    private void guardarClima(Dia dia) {
-        PronosticoDTO pronosticoDTO = new PronosticoDTO(dia.getTipoClima().name(), DiaDTO.convertirDiaADiaDTO(dia));
-        pronosticos.put(dia.getDia(), pronosticoDTO);
-    }
-
-    /**
-     * Calcula el tipo de clima para un día específico.
-     *
-     * @param dia la información del día
-     */
-    private void calcularClimaDia(Dia dia) {
-        if (ClimaHelper.esSequia(dia)) {
-            dia.setTipoClima(ClimaEnum.SEQUIA);
-        } else if (ClimaHelper.esOptimo(dia, posicionSol)) {
-            dia.setTipoClima(ClimaEnum.OPTIMO);
-        } else if (ClimaHelper.esLluvia(dia, posicionSol)) {
-            dia.setTipoClima(ClimaEnum.LLUVIA);
-        }
-    }
-
-    /**
-     * Obtiene los pronósticos calculados.
-     *
-     * @return un mapa de pronósticos con el número de día como clave y el pronóstico como valor
-     */
-    public Map<Integer , PronosticoDTO> getPronosticos() {
-        return pronosticos;
-    }
-
-}
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.dto.CondicionesSistemaDTO;
+import com.challenge.climate.dto.DiaDTO;
+import com.challenge.climate.dto.PeriodoDTO;
+import com.challenge.climate.dto.PeriodosDTO;
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.dto.SerieDiasDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.*;
+import com.challenge.climate.utils.ClasificadorClima;
+import com.challenge.climate.utils.ClasificadorPlanetas;
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.MetricasClima;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Calcula los pronósticos del clima.
+ * <p>
+ * El servicio no guarda estado entre llamadas: cada cálculo devuelve una {@link Simulacion} inmutable y las
+ * consultas reciben la simulación sobre la que se hacen, por lo que puede usarse desde varios hilos a la vez.
+ * Los días se dividen en tramos de {@link #DIAS_POR_TRAMO} que se calculan en paralelo.
+ * <p>
+ * Cada fase del cálculo y las consultas más frecuentes se miden con {@link MetricasClima}.
+ */
+@Service
+public class ClimaService {
+
+    /**
+     * Cantidad de días que calcula cada tarea paralela.
+     */
+    private static final int DIAS_POR_TRAMO = 1 << 14;
+
+    /**
+     * Versión del cálculo de los días, que forma parte de la huella. Se incrementa al cambiar las posiciones, los
+     * clasificadores o los perímetros, así los snapshots y los ETags anteriores dejan de coincidir.
+     */
+    static final int VERSION_CALCULO = 1;
+
+    private final ClasificadorEnum tipoClasificador;
+    private final ClasificadorClima clasificador;
+    private final Posicion posicionSol;
+    private final MetricasClima metricas;
+    private final Timer duracionDiaMayorLluvia;
+    private final MetricasClima.Busqueda busquedasAlmacen;
+
+    /**
+     * Crea el servicio publicando las métricas en el registro global de Micrometer.
+     *
+     * @param tipoClasificador el clasificador de climas
+     */
+    public ClimaService(ClasificadorEnum tipoClasificador) {
+        this(tipoClasificador, Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public ClimaService(@Value("${clima.clasificador:PENDIENTES}") ClasificadorEnum tipoClasificador, MeterRegistry registro) {
+        this.tipoClasificador = tipoClasificador;
+        this.clasificador = ClasificadorClima.de(tipoClasificador);
+        this.posicionSol = new Posicion(new Planeta(PlanetaEnum.SOL, 0), 90);
+        this.metricas = new MetricasClima(registro, tipoClasificador.name());
+        this.duracionDiaMayorLluvia = metricas.temporizador("dia-mayor-lluvia");
+        this.busquedasAlmacen = metricas.busqueda("almacen");
+    }
+
+    public MetricasClima getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Calcula los pronósticos climáticos para un número de días dado.
+     *
+     * @param dias el número de días para calcular los pronósticos
+     * @return la {@link Simulacion} con los días calculados, el conteo de cada tipo de clima y el día de mayor lluvia
+     */
+    public Simulacion calcularPronosticos(int dias) {
+        return calcularPronosticos(crearConfiguracion(), dias);
+    }
+
+    /**
+     * Calcula los pronósticos climáticos de una configuración de planetas cualquiera.
+     *
+     * @param configuracion la configuración de Ferengi, Betasoide y Vulcano
+     * @param dias el número de días para calcular los pronósticos
+     * @return la {@link Simulacion} con los días calculados, el conteo de cada tipo de clima y el día de mayor lluvia
+     */
+    public Simulacion calcularPronosticos(Map<PlanetaEnum, PlanetaDTO> configuracion, int dias) {
+        AlmacenPronosticosMemoria almacen = new AlmacenPronosticosMemoria(configuracion, dias);
+
+        metricas.medirFase("posiciones", dias, () -> {
+            calcularPosiciones(almacen, configuracion);
+            return almacen;
+        });
+        ResumenClimas resumen = metricas.medirFase("climas", dias, () -> calcularClimas(almacen, configuracion));
+        return crearSimulacion(configuracion, almacen, resumen);
+    }
+
+    /**
+     * Crea una simulación a partir de días ya calculados, por ejemplo los leídos de un snapshot.
+     *
+     * @param configuracion la configuración de los planetas
+     * @param almacen los días calculados
+     * @param resumen el conteo de climas y el día de mayor lluvia de esos días
+     * @return la {@link Simulacion}, con el ciclo de las órbitas calculado
+     */
+    public Simulacion crearSimulacion(Map<PlanetaEnum, PlanetaDTO> configuracion, AlmacenPronosticos almacen,
+                                      ResumenClimas resumen) {
+        return new Simulacion(calcularHuella(configuracion), configuracion, almacen, calcularCiclo(configuracion), resumen);
+    }
+
+    /**
+     * Calcula la huella de una configuración: un hash de la {@link #VERSION_CALCULO}, del clasificador de este
+     * servicio y de los parámetros de cada planeta, en el orden de {@link Dia#PLANETAS}. Dos simulaciones con la
+     * misma huella producen los mismos días.
+     *
+     * @param configuracion la configuración de los planetas
+     * @return los primeros 8 bytes del SHA-256 de la configuración
+     */
+    public long calcularHuella(Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        StringBuilder texto = new StringBuilder().append(VERSION_CALCULO).append('|').append(tipoClasificador.name());
+        for (PlanetaEnum planeta : Dia.PLANETAS) {
+            PlanetaDTO config = configuracion.get(planeta);
+            texto.append('|').append(planeta.name()).append(':').append(config.getRadio()).append(':')
+                    .append(config.getOrientacion().name()).append(':').append(config.getVelocidad());
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(texto.toString().getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Calcula las condiciones climáticas de un rango arbitrario de días.
+     * <p>
+     * Los conteos salen de los conteos acumulados del ciclo de las órbitas, en tiempo constante sin importar
+     * el rango.
+     *
+     * @param simulacion la simulación de referencia
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return un objeto CondicionesClimaticasDTO con el día de mayor lluvia y el conteo de cada tipo de clima
+     */
+    public CondicionesClimaticasDTO calcularCondiciones(Simulacion simulacion, long desde, long hasta) {
+        long diaMayorLluvia = obtenerDiaMayorLluvia(simulacion, desde, hasta);
+        return new CondicionesClimaticasDTO(diaMayorLluvia == 0 ? null : calcularDia(simulacion, diaMayorLluvia),
+                simulacion.getCiclo().contarClimas(desde, hasta));
+    }
+
+    /**
+     * Obtiene el primer día de lluvia con perímetro máximo de un rango de días, en tiempo constante con el ciclo.
+     *
+     * @param simulacion la simulación de referencia
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return el número de día, o 0 si no hay días de lluvia en el rango
+     */
+    public long obtenerDiaMayorLluvia(Simulacion simulacion, long desde, long hasta) {
+        long inicio = System.nanoTime();
+        long diaMayorLluvia = simulacion.getCiclo().obtenerDiaMayorLluvia(desde, hasta);
+        duracionDiaMayorLluvia.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return diaMayorLluvia;
+    }
+
+    /**
+     * Clasifica un ciclo completo de las órbitas. Las velocidades son enteras, así que el periodo nunca supera
+     * 360 días.
+     *
+     * @param configuracion la configuración de los planetas
+     * @return el {@link CicloClimatico}
+     */
+    private CicloClimatico calcularCiclo(Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        int periodo = (int) ClimaHelper.calcularPeriodo(configuracion.values());
+        return metricas.medirFase("ciclo", periodo, () -> clasificarCiclo(configuracion, periodo));
+    }
+
+    /**
+     * Clasifica los días de un ciclo reutilizando un único {@link Dia}, así las tablas de coordenadas de los
+     * planetas se resuelven una sola vez por configuración.
+     */
+    private CicloClimatico clasificarCiclo(Map<PlanetaEnum, PlanetaDTO> configuracion, int periodo) {
+        byte[] climas = new byte[periodo];
+        double[] perimetros = new double[periodo];
+        Dia dia = new Dia(1, configuracion);
+        for (int numeroDia = 1; numeroDia <= periodo; numeroDia++) {
+            posicionarDia(dia, configuracion, numeroDia);
+            climas[numeroDia - 1] = (byte) dia.getTipoClima().ordinal();
+            perimetros[numeroDia - 1] = dia.getPerimetro();
+        }
+        return new CicloClimatico(climas, perimetros);
+    }
+
+    /**
+     * Calcula las condiciones climáticas de los días 1 a {@code dias} de una configuración clasificando un solo ciclo
+     * de las órbitas, que en tres planetas nunca supera 360 días. No registra métricas, para poder evaluar muchas
+     * configuraciones en paralelo.
+     *
+     * @param configuracion la configuración de Ferengi, Betasoide y Vulcano
+     * @param dias el último día del rango, mayor o igual a 1
+     * @return un {@link CondicionesSistemaDTO} con el conteo de cada clima y el día de mayor lluvia
+     */
+    public CondicionesSistemaDTO calcularCondicionesCiclo(Map<PlanetaEnum, PlanetaDTO> configuracion, long dias) {
+        int periodo = (int) ClimaHelper.calcularPeriodo(configuracion.values());
+        return resumirCiclo(clasificarCiclo(configuracion, periodo), Dia.PLANETAS.size(), 1, dias);
+    }
+
+    /**
+     * Calcula las condiciones climáticas de un rango de días en un sistema de cualquier cantidad de planetas.
+     * <p>
+     * Como cada planeta vuelve a su posición en un divisor de 360 días, el periodo del sistema nunca supera
+     * 360 días: se clasifica un ciclo con {@link ClasificadorPlanetas} y el rango se resuelve con el
+     * {@link CicloClimatico}, en tiempo constante. Cada día cuesta O(n log n) por la envolvente convexa.
+     *
+     * @param sistema el sistema planetario
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return un {@link CondicionesSistemaDTO} con el conteo de cada clima y el día de mayor lluvia
+     */
+    public CondicionesSistemaDTO calcularCondiciones(SistemaPlanetario sistema, long desde, long hasta) {
+        int periodo = (int) sistema.getPeriodo();
+        CicloClimatico ciclo = metricas.medirFase("sistema", periodo, () -> {
+            byte[] climas = new byte[periodo];
+            double[] perimetros = new double[periodo];
+            PosicionesPlanetas posiciones = new PosicionesPlanetas(sistema);
+            ClasificadorPlanetas clasificadorPlanetas = new ClasificadorPlanetas();
+
+            for (int numeroDia = 1; numeroDia <= periodo; numeroDia++) {
+                posiciones.calcular(numeroDia);
+                climas[numeroDia - 1] = (byte) clasificadorPlanetas.clasificar(posiciones).ordinal();
+                perimetros[numeroDia - 1] = posiciones.getPerimetro();
+            }
+            return new CicloClimatico(climas, perimetros);
+        });
+
+        return resumirCiclo(ciclo, sistema.getCantidad(), desde, hasta);
+    }
+
+    private static CondicionesSistemaDTO resumirCiclo(CicloClimatico ciclo, int cuerpos, long desde, long hasta) {
+        Map<ClimaEnum, Long> totales = ciclo.contarClimas(desde, hasta);
+        long diaMayorLluvia = ciclo.obtenerDiaMayorLluvia(desde, hasta);
+        return new CondicionesSistemaDTO(cuerpos, ciclo.getPeriodo(), totales.get(ClimaEnum.SEQUIA),
+                totales.get(ClimaEnum.LLUVIA), totales.get(ClimaEnum.OPTIMO), totales.get(ClimaEnum.INDEFINIDO),
+                diaMayorLluvia == 0 ? null : diaMayorLluvia,
+                diaMayorLluvia == 0 ? null : ciclo.getPerimetroLluvia(diaMayorLluvia));
+    }
+
+    /**
+     * Crea la configuración de los planetas Ferengi, Betasoide y Vulcano.
+     *
+     * @return un mapa con la configuración de cada planeta
+     */
+    public static Map<PlanetaEnum, PlanetaDTO> crearConfiguracion() {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = new HashMap<>();
+        configuracion.put(PlanetaEnum.FERENGI, new PlanetaDTO(PlanetaEnum.FERENGI, 500.0, OrientacionEnum.HORARIA, 1));
+        configuracion.put(PlanetaEnum.BETASOIDE, new PlanetaDTO(PlanetaEnum.BETASOIDE, 2000.0, OrientacionEnum.HORARIA, 3));
+        configuracion.put(PlanetaEnum.VULCANO, new PlanetaDTO(PlanetaEnum.VULCANO, 1000.0, OrientacionEnum.ANTIHORARIA, 5));
+        return configuracion;
+    }
+
+    /**
+     * Calcula las posiciones de los planetas para todos los días del almacenamiento, por tramos en paralelo.
+     *
+     * @param almacen el almacenamiento a completar
+     * @param configuracion la configuración de los planetas
+     */
+    private void calcularPosiciones(AlmacenPronosticosMemoria almacen, Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        PlanetaDTO[] configuraciones = Dia.PLANETAS.stream().map(configuracion::get).toArray(PlanetaDTO[]::new);
+
+        tramos(almacen.getTotalDias()).forEach(tramo -> {
+            int ultimoDia = Math.min(almacen.getTotalDias(), (tramo + 1) * DIAS_POR_TRAMO);
+            for (int dia = tramo * DIAS_POR_TRAMO + 1; dia <= ultimoDia; dia++) {
+                for (int planeta = 0; planeta < configuraciones.length; planeta++) {
+                    PlanetaDTO config = configuraciones[planeta];
+                    almacen.setGrados(planeta, dia, ClimaHelper.calcularGradosEnDia(config.getVelocidad(), config.getOrientacion(), dia));
+                }
+            }
+        });
+    }
+
+    /**
+     * Calcula la información del clima para un día específico, sin depender de los días anteriores. Usa los planetas
+     * del almacenamiento de la simulación, sin volver a crearlos.
+     *
+     * @param simulacion la simulación del día
+     * @param numeroDia el número del día a calcular
+     * @return la información del día calculado, con su tipo de clima
+     */
+    private Dia calcularDia(Simulacion simulacion, long numeroDia) {
+        return posicionarDia(new Dia(numeroDia, simulacion.getAlmacen().getPlanetas()), simulacion.getConfiguracion(), numeroDia);
+    }
+
+    /**
+     * Carga en un {@link Dia} existente las posiciones de un día y calcula su clima.
+     */
+    private Dia posicionarDia(Dia dia, Map<PlanetaEnum, PlanetaDTO> configuracion, long numeroDia) {
+        calcularClimaDia(dia.posicionar(configuracion, numeroDia));
+        return dia;
+    }
+
+    /**
+     * Calcula los tipos de climas para todos los días, por tramos en paralelo.
+     * <p>
+     * Cada tramo reutiliza un único {@link Dia} y acumula los conteos y su candidato a día de mayor lluvia.
+     * Los resúmenes se combinan en el orden de los días, así que ante perímetros iguales se conserva el primer día.
+     *
+     * @param almacen el almacenamiento con las posiciones calculadas
+     * @param configuracion la configuración de los planetas
+     * @return el resumen de todos los días
+     */
+    private ResumenClimas calcularClimas(AlmacenPronosticosMemoria almacen, Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        return tramos(almacen.getTotalDias())
+                .collect(ResumenClimas::new, (resumenTramo, tramo) -> {
+                    Dia dia = new Dia(1, configuracion);
+                    int ultimoDia = Math.min(almacen.getTotalDias(), (tramo + 1) * DIAS_POR_TRAMO);
+
+                    for (int numeroDia = tramo * DIAS_POR_TRAMO + 1; numeroDia <= ultimoDia; numeroDia++) {
+                        almacen.cargarDia(dia, numeroDia);
+                        calcularClimaDia(dia);
+                        guardarClima(almacen, dia, resumenTramo);
+                    }
+                }, ResumenClimas::combinar);
+    }
+
+    /**
+     * Divide un horizonte en tramos de {@link #DIAS_POR_TRAMO} días para recorrerlos en paralelo.
+     *
+     * @param totalDias el número total de días
+     * @return un stream paralelo con el índice de cada tramo
+     */
+    private static IntStream tramos(int totalDias) {
+        return IntStream.range(0, (totalDias + DIAS_POR_TRAMO - 1) / DIAS_POR_TRAMO).parallel();
+    }
+
+    /**
+     * Guarda la información del clima de un día especifico.
+     *
+     * @param almacen el almacenamiento de los días
+     * @param dia {@link Dia}
+     * @param resumen el resumen del tramo al que pertenece el día
+     */
+    private void guardarClima(AlmacenPronosticosMemoria almacen, Dia dia, ResumenClimas resumen) {
+        double perimetro = dia.getPerimetro();
+        almacen.setClima((int) dia.getDia(), dia.getTipoClima(), perimetro);
+        resumen.registrar(dia.getDia(), dia.getTipoClima(), perimetro);
+    }
+
+    /**
+     * Calcula el tipo de clima para un día específico.
+     *
+     * @param dia la información del día
+     */
+    private void calcularClimaDia(Dia dia) {
+        dia.setTipoClima(clasificador.clasificar(dia, posicionSol));
+    }
+
+    /**
+     * Obtiene los periodos de clima de un rango de los días calculados.
+     * <p>
+     * Los periodos que empiezan antes del rango o terminan después se recortan a sus límites, y su perímetro
+     * máximo se calcula solo sobre los días del rango. Se cuentan todos los periodos del rango, aunque solo
+     * se listen los primeros {@code limite}.
+     *
+     * @param simulacion la simulación de referencia
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango, dentro del horizonte calculado
+     * @param limite la cantidad máxima de periodos a listar
+     * @return el {@link PeriodosDTO} con la cantidad de periodos de cada clima y los periodos listados
+     */
+    public PeriodosDTO getPeriodos(Simulacion simulacion, long desde, long hasta, int limite) {
+        LineaTemporalClimas lineaTemporal = simulacion.getLineaTemporal();
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        long[] cantidades = new long[ClimaEnum.values().length];
+        List<PeriodoDTO> periodos = new ArrayList<>();
+
+        for (int periodo = lineaTemporal.buscar(desde);
+             periodo < lineaTemporal.getCantidad() && lineaTemporal.getInicio(periodo) <= hasta; periodo++) {
+            ClimaEnum clima = lineaTemporal.getClima(periodo);
+            cantidades[clima.ordinal()]++;
+            if (periodos.size() == limite) {
+                continue;
+            }
+
+            int inicio = (int) Math.max(desde, lineaTemporal.getInicio(periodo));
+            int fin = (int) Math.min(hasta, lineaTemporal.getFin(periodo));
+            double perimetroMaximo = lineaTemporal.getPerimetroMaximo(periodo);
+            if (inicio != lineaTemporal.getInicio(periodo) || fin != lineaTemporal.getFin(periodo)) {
+                perimetroMaximo = IntStream.rangeClosed(inicio, fin).mapToDouble(almacen::getPerimetro).max().orElseThrow();
+            }
+            periodos.add(new PeriodoDTO(clima.name(), inicio, fin, perimetroMaximo));
+        }
+
+        Map<ClimaEnum, Long> cantidadPeriodos = new EnumMap<>(ClimaEnum.class);
+        for (ClimaEnum clima : ClimaEnum.values()) {
+            cantidadPeriodos.put(clima, cantidades[clima.ordinal()]);
+        }
+        return new PeriodosDTO(cantidadPeriodos, periodos);
+    }
+
+    /**
+     * Obtiene el pronóstico de un día.
+     * Los días dentro del horizonte calculado se leen del almacenamiento y el resto se calcula en el momento.
+     *
+     * @param simulacion la simulación de referencia
+     * @param dia el número de día, mayor o igual a 1
+     * @return el {@link PronosticoDTO} del día
+     */
+    public PronosticoDTO getPronostico(Simulacion simulacion, long dia) {
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        boolean guardado = almacen.contiene(dia);
+        busquedasAlmacen.registrar(guardado);
+        if (guardado) {
+            int diaGuardado = (int) dia;
+            return new PronosticoDTO(almacen.getClima(diaGuardado).name(),
+                    DiaDTO.convertirDiaADiaDTO(almacen.getDia(diaGuardado), almacen.getPerimetro(diaGuardado)));
+        }
+
+        Dia calculado = calcularDia(simulacion, dia);
+        return new PronosticoDTO(calculado.getTipoClima().name(), DiaDTO.convertirDiaADiaDTO(calculado));
+    }
+
+    /**
+     * Obtiene los pronósticos de un rango de días en columnas, con los planetas y los climas una sola vez.
+     * Los días dentro del horizonte calculado se leen del almacenamiento y el resto se calcula en el momento.
+     *
+     * @param simulacion la simulación de referencia
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango
+     * @return el {@link SerieDiasDTO} del rango
+     */
+    public SerieDiasDTO getSerie(Simulacion simulacion, long desde, long hasta) {
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        int dias = Math.toIntExact(hasta - desde + 1);
+        byte[] climas = new byte[dias];
+        short[][] grados = new short[Dia.PLANETAS.size()][dias];
+        double[] perimetros = new double[dias];
+        for (int indice = 0; indice < dias; indice++) {
+            long dia = desde + indice;
+            if (almacen.contiene(dia)) {
+                int diaGuardado = (int) dia;
+                climas[indice] = (byte) almacen.getClima(diaGuardado).ordinal();
+                perimetros[indice] = almacen.getPerimetro(diaGuardado);
+                for (int planeta = 0; planeta < grados.length; planeta++) {
+                    grados[planeta][indice] = (short) almacen.getGrados(planeta, diaGuardado);
+                }
+            } else {
+                Dia calculado = calcularDia(simulacion, dia);
+                climas[indice] = (byte) calculado.getTipoClima().ordinal();
+                perimetros[indice] = calculado.getPerimetro();
+                for (int planeta = 0; planeta < grados.length; planeta++) {
+                    grados[planeta][indice] = (short) calculado.getPosicion(Dia.PLANETAS.get(planeta)).getGrados();
+                }
+            }
+        }
+
+        List<Planeta> planetas = List.of(almacen.getPlanetas());
+        List<String> nombresClimas = Arrays.stream(ClimaEnum.values()).map(ClimaEnum::name).toList();
+        return new SerieDiasDTO(desde, hasta, planetas, nombresClimas, climas, grados, perimetros);
+    }
+}
@@ -0,0 +1,142 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.CondicionDTO;
+import com.challenge.climate.dto.ResultadoConsultaDTO;
+import com.challenge.climate.exceptions.ParametroIncorrectoException;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.IndiceBits;
+import com.challenge.climate.model.Simulacion;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.challenge.climate.utils.Constantes.CONDICIONES_MAXIMAS;
+import static com.challenge.climate.utils.Constantes.CONSULTA_INCORRECTA;
+
+/**
+ * Resuelve consultas de días que combinan condiciones sobre el clima, el cuadrante y el hemisferio de cada planeta
+ * y el perímetro con {@code y}, {@code o} y {@code no}.
+ * <p>
+ * Cada condición simple es un mapa de bits del {@link IndiceBits} de la simulación y las combinaciones son
+ * intersecciones, uniones y complementos de a 64 días por operación, así que una consulta no recorre los días
+ * salvo para listar los resultados y comparar los perímetros del intervalo que contiene cada umbral.
+ */
+@Service
+public class ConsultasDias {
+
+    /**
+     * Obtiene los días de un rango de los días calculados que cumplen una condición.
+     *
+     * @param simulacion la simulación de referencia
+     * @param condicion la condición que deben cumplir los días
+     * @param desde el primer día del rango, mayor o igual a 1
+     * @param hasta el último día del rango, dentro del horizonte calculado
+     * @param limite la cantidad máxima de días a listar; con 0 solo se cuentan
+     * @return el {@link ResultadoConsultaDTO} con la cantidad de días del rango que cumplen la condición y los
+     * primeros {@code limite}
+     * @throws ParametroIncorrectoException si alguna condición no define exactamente un tipo o la consulta tiene más
+     * de {@value com.challenge.climate.utils.Constantes#CONDICIONES_MAXIMAS} condiciones
+     */
+    public ResultadoConsultaDTO consultar(Simulacion simulacion, CondicionDTO condicion, int desde, int hasta, int limite) {
+        validar(condicion, new int[1]);
+        BitSet dias = evaluar(simulacion.getIndiceBits(), condicion);
+        dias.clear(0, desde);
+        dias.clear(hasta + 1, Math.max(hasta + 1, dias.length()));
+
+        int cantidad = dias.cardinality();
+        List<Integer> listados = new ArrayList<>(Math.min(limite, cantidad));
+        for (int dia = dias.nextSetBit(desde); dia >= 0 && listados.size() < limite; dia = dias.nextSetBit(dia + 1)) {
+            listados.add(dia);
+        }
+        return new ResultadoConsultaDTO(cantidad, listados);
+    }
+
+    /**
+     * Verifica que cada condición defina exactamente un tipo y cuenta las condiciones, antes de evaluar ninguna.
+     */
+    private static void validar(CondicionDTO condicion, int[] cantidad) {
+        if (condicion == null || ++cantidad[0] > CONDICIONES_MAXIMAS || contarTipos(condicion) != 1
+                || (condicion.planeta() != null && !Dia.PLANETAS.contains(condicion.planeta()))) {
+            throw new ParametroIncorrectoException(String.format(CONSULTA_INCORRECTA, CONDICIONES_MAXIMAS));
+        }
+
+        List<CondicionDTO> hijas = condicion.y() != null ? condicion.y() : condicion.o();
+        if (hijas != null) {
+            if (hijas.isEmpty()) {
+                throw new ParametroIncorrectoException(String.format(CONSULTA_INCORRECTA, CONDICIONES_MAXIMAS));
+            }
+            for (CondicionDTO hija : hijas) {
+                validar(hija, cantidad);
+            }
+        } else if (condicion.no() != null) {
+            validar(condicion.no(), cantidad);
+        }
+    }
+
+    private static int contarTipos(CondicionDTO condicion) {
+        int tipos = 0;
+        if (condicion.y() != null) {
+            tipos++;
+        }
+        if (condicion.o() != null) {
+            tipos++;
+        }
+        if (condicion.no() != null) {
+            tipos++;
+        }
+        if (condicion.clima() != null) {
+            tipos++;
+        }
+        if (condicion.planeta() != null || condicion.cuadrante() != null || condicion.hemisferio() != null) {
+            boolean completa = condicion.planeta() != null && (condicion.cuadrante() == null) != (condicion.hemisferio() == null);
+            tipos += completa ? 1 : 2;
+        }
+        if (condicion.perimetroMayor() != null || condicion.perimetroMenor() != null) {
+            tipos++;
+        }
+        return tipos;
+    }
+
+    /**
+     * Evalúa una condición ya validada. Cada llamada devuelve un {@link BitSet} nuevo, que se combina en el lugar
+     * con los de las demás condiciones.
+     */
+    private static BitSet evaluar(IndiceBits indice, CondicionDTO condicion) {
+        if (condicion.y() != null) {
+            BitSet dias = evaluar(indice, condicion.y().get(0));
+            for (int i = 1; i < condicion.y().size() && !dias.isEmpty(); i++) {
+                dias.and(evaluar(indice, condicion.y().get(i)));
+            }
+            return dias;
+        }
+        if (condicion.o() != null) {
+            BitSet dias = evaluar(indice, condicion.o().get(0));
+            for (int i = 1; i < condicion.o().size(); i++) {
+                dias.or(evaluar(indice, condicion.o().get(i)));
+            }
+            return dias;
+        }
+        if (condicion.no() != null) {
+            BitSet dias = indice.getTodos();
+            dias.andNot(evaluar(indice, condicion.no()));
+            return dias;
+        }
+        if (condicion.clima() != null) {
+            return indice.getClima(condicion.clima());
+        }
+        if (condicion.cuadrante() != null) {
+            return indice.getCuadrante(condicion.planeta(), condicion.cuadrante());
+        }
+        if (condicion.hemisferio() != null) {
+            return indice.getHemisferio(condicion.planeta(), condicion.hemisferio());
+        }
+
+        BitSet dias = condicion.perimetroMayor() != null ? indice.getPerimetroMayor(condicion.perimetroMayor()) : indice.getTodos();
+        if (condicion.perimetroMenor() != null) {
+            dias.and(indice.getPerimetroMenor(condicion.perimetroMenor()));
+        }
+        return dias;
+    }
+}
@@ -0,0 +1,229 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.EventoDTO;
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.EventoEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.exceptions.ParametroIncorrectoException;
+import com.challenge.climate.model.OrbitasContinuas;
+import com.challenge.climate.utils.ClimaHelper;
+import com.challenge.climate.utils.RaicesHelper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static com.challenge.climate.utils.Constantes.EVENTOS_RANGO_INVALIDO;
+import static com.challenge.climate.utils.Constantes.GRADOS_180;
+
+/**
+ * Calcula los instantes exactos en que cambia el clima, en tiempo continuo en lugar de un muestreo por día.
+ * <p>
+ * Los eventos de un periodo de las órbitas se calculan una vez y se repiten en los periodos siguientes, así que
+ * el costo no depende del horizonte sino de la cantidad de eventos pedidos:
+ * <ul>
+ *     <li>Sequía: los planetas están alineados con el sol cuando todas las diferencias de ángulo son múltiplos
+ *     de 180 grados, lo que se resuelve en forma exacta con el máximo común divisor de las velocidades relativas.</li>
+ *     <li>Inicio y fin de lluvia: el sol entra o sale del triángulo al cruzar uno de sus lados, cuando la diferencia
+ *     de ángulo de esos dos planetas es múltiplo de 180 grados. También es exacto.</li>
+ *     <li>Óptimo: raíces del área orientada del triángulo fuera de las sequías, por bisección entre muestras.
+ *     Las alineaciones en que el área toca el cero sin cambiar de signo se buscan entre las raíces de su derivada.</li>
+ *     <li>Máximos y mínimos del perímetro: raíces de su derivada, por bisección entre muestras. Los picos de lluvia
+ *     son los máximos con clima LLUVIA.</li>
+ * </ul>
+ * Las funciones son sumas de senos cuya frecuencia no supera la mayor velocidad relativa, así que se muestrean
+ * {@link #MUESTRAS_POR_VUELTA} veces por cada vuelta relativa.
+ */
+@Service
+public class EventosClimaticos {
+
+    /**
+     * Ancho máximo del intervalo que acota cada instante, en días.
+     */
+    private static final double PRECISION = 1e-9;
+
+    /**
+     * Distancia desde un evento a la que se evalúa el clima antes y después, en días.
+     */
+    private static final double MARGEN = 1e-7;
+
+    private static final int MUESTRAS_POR_VUELTA = 64;
+
+    private static final Comparator<EventoDTO> ORDEN = Comparator.comparingDouble(EventoDTO::instante)
+            .thenComparing(evento -> EventoEnum.valueOf(evento.tipo()));
+
+    /**
+     * Calcula los eventos de un intervalo de tiempo. Los eventos del ciclo se comparan con el rango por su desfase
+     * dentro de cada vuelta, sin sumar instantes absolutos.
+     *
+     * @param configuracion la configuración de los planetas
+     * @param desde el primer instante, incluido
+     * @param hasta el último instante, incluido
+     * @param limite la cantidad máxima de eventos
+     * @return los eventos ordenados por instante
+     * @throws ParametroIncorrectoException si el rango es inválido
+     */
+    public List<EventoDTO> calcularEventos(Map<PlanetaEnum, PlanetaDTO> configuracion, double desde, double hasta, int limite) {
+        if (!(desde >= 0) || !(hasta >= desde) || Double.isInfinite(hasta)) {
+            throw new ParametroIncorrectoException(EVENTOS_RANGO_INVALIDO);
+        }
+
+        OrbitasContinuas orbitas = new OrbitasContinuas(configuracion);
+        double periodo = orbitas.getPeriodo();
+        List<EventoDTO> eventos = new ArrayList<>();
+        if (periodo == 0 || orbitas.getVelocidadRelativaMaxima() == 0) {
+            return eventos;
+        }
+
+        List<EventoDTO> ciclo = calcularCiclo(orbitas, periodo);
+        if (ciclo.isEmpty()) {
+            return eventos;
+        }
+        long primeraVuelta = (long) Math.floor(desde / periodo);
+        double inicioDesde = desde - primeraVuelta * periodo;
+        for (long vuelta = primeraVuelta; eventos.size() < limite; vuelta++) {
+            double inicioVuelta = vuelta * periodo;
+            double finVuelta = hasta - inicioVuelta;
+            if (finVuelta < 0) {
+                break;
+            }
+            for (EventoDTO evento : ciclo) {
+                if (evento.instante() > finVuelta || eventos.size() == limite) {
+                    break;
+                }
+                if (vuelta > primeraVuelta || evento.instante() >= inicioDesde) {
+                    eventos.add(new EventoDTO(inicioVuelta + evento.instante(), evento.tipo(), evento.clima(), evento.perimetro()));
+                }
+            }
+        }
+        return eventos;
+    }
+
+    /**
+     * Calcula los eventos de un periodo, en [0, periodo).
+     */
+    private List<EventoDTO> calcularCiclo(OrbitasContinuas orbitas, double periodo) {
+        List<EventoDTO> eventos = new ArrayList<>();
+        double[] sequias = calcularSequias(orbitas, periodo);
+        for (double instante : sequias) {
+            eventos.add(crearEvento(orbitas, instante, EventoEnum.SEQUIA, ClimaEnum.SEQUIA));
+        }
+
+        calcularCambiosLluvia(orbitas, periodo, eventos);
+
+        double paso = 2 * Math.PI / orbitas.getVelocidadRelativaMaxima() / MUESTRAS_POR_VUELTA;
+        double toleranciaArea = orbitas.getAreaOrientadaMaxima() * PRECISION;
+        double[] alineaciones = RaicesHelper.buscarRaices(orbitas::getAreaOrientada, 0, periodo, paso, PRECISION);
+        double[] tangentes = Arrays.stream(RaicesHelper.buscarRaices(orbitas::getDerivadaAreaOrientada, 0, periodo, paso, PRECISION))
+                .filter(instante -> Math.abs(orbitas.getAreaOrientada(instante)) <= toleranciaArea)
+                .toArray();
+        double anterior = Double.NEGATIVE_INFINITY;
+        for (double instante : unir(alineaciones, tangentes)) {
+            if (instante < periodo && instante - anterior > MARGEN && Double.isNaN(buscarCercano(sequias, instante, periodo))) {
+                eventos.add(crearEvento(orbitas, instante, EventoEnum.OPTIMO, ClimaEnum.OPTIMO));
+            }
+            anterior = instante;
+        }
+
+        for (double instante : RaicesHelper.buscarRaices(orbitas::getDerivadaPerimetro, 0, periodo, paso, PRECISION)) {
+            if (instante >= periodo) {
+                continue;
+            }
+            boolean esMaximo = orbitas.getDerivadaPerimetro(instante - MARGEN) > 0;
+            boolean esMinimo = orbitas.getDerivadaPerimetro(instante + MARGEN) > 0;
+            if (esMaximo != esMinimo) {
+                EventoEnum tipo = esMaximo ? EventoEnum.PERIMETRO_MAXIMO : EventoEnum.PERIMETRO_MINIMO;
+                double sequia = buscarCercano(sequias, instante, periodo);
+                if (Double.isNaN(sequia)) {
+                    eventos.add(crearEvento(orbitas, instante, tipo,
+                            orbitas.contieneSol(instante) ? ClimaEnum.LLUVIA : ClimaEnum.INDEFINIDO));
+                } else if (sequia < periodo) {
+                    eventos.add(crearEvento(orbitas, sequia, tipo, ClimaEnum.SEQUIA));
+                }
+            }
+        }
+
+        eventos.sort(ORDEN);
+        return eventos;
+    }
+
+    /**
+     * Calcula las sequías de un periodo. Con d1 y d2 las velocidades relativas de los planetas 2 y 3 respecto del 1,
+     * los tres están alineados con el sol cuando d1 · t y d2 · t son múltiplos de 180, es decir cada 180 / mcd(d1, d2) días.
+     */
+    private static double[] calcularSequias(OrbitasContinuas orbitas, double periodo) {
+        long mcd = ClimaHelper.mcd(Math.abs(orbitas.getVelocidadRelativa(0, 1)), Math.abs(orbitas.getVelocidadRelativa(0, 2)));
+        double intervalo = (double) GRADOS_180 / mcd;
+        int cantidad = (int) Math.ceil(periodo / intervalo - PRECISION);
+        double[] sequias = new double[cantidad];
+        for (int sequia = 0; sequia < cantidad; sequia++) {
+            sequias[sequia] = sequia * intervalo;
+        }
+        return sequias;
+    }
+
+    /**
+     * Agrega los instantes en que el sol entra o sale del triángulo. Solo puede cambiar al cruzar la recta de un lado,
+     * cuando los dos planetas del lado están alineados con el sol; se compara el clima justo antes y justo después.
+     */
+    private static void calcularCambiosLluvia(OrbitasContinuas orbitas, double periodo, List<EventoDTO> eventos) {
+        List<Double> candidatos = new ArrayList<>();
+        for (int planeta = 0; planeta < 3; planeta++) {
+            int velocidadRelativa = Math.abs(orbitas.getVelocidadRelativa(planeta, (planeta + 1) % 3));
+            if (velocidadRelativa == 0) {
+                continue;
+            }
+            double intervalo = (double) GRADOS_180 / velocidadRelativa;
+            for (long cruce = 0; cruce * intervalo < periodo; cruce++) {
+                candidatos.add(cruce * intervalo);
+            }
+        }
+        candidatos.sort(null);
+
+        double anterior = Double.NEGATIVE_INFINITY;
+        for (double instante : candidatos) {
+            if (instante - anterior > MARGEN) {
+                boolean antes = orbitas.contieneSol(instante - MARGEN);
+                boolean despues = orbitas.contieneSol(instante + MARGEN);
+                if (antes != despues) {
+                    eventos.add(crearEvento(orbitas, instante, despues ? EventoEnum.INICIO_LLUVIA : EventoEnum.FIN_LLUVIA,
+                            despues ? ClimaEnum.LLUVIA : ClimaEnum.INDEFINIDO));
+                }
+            }
+            anterior = instante;
+        }
+    }
+
+    private static EventoDTO crearEvento(OrbitasContinuas orbitas, double instante, EventoEnum tipo, ClimaEnum clima) {
+        return new EventoDTO(instante, tipo.name(), clima.name(), orbitas.getPerimetro(instante));
+    }
+
+    /**
+     * Busca el instante a menos de {@link #MARGEN} de otro, contando los del periodo siguiente.
+     *
+     * @return el instante cercano, o NaN si no hay ninguno
+     */
+    private static double buscarCercano(double[] instantes, double instante, double periodo) {
+        for (double otro : instantes) {
+            double distancia = Math.abs(otro - instante);
+            if (distancia <= MARGEN) {
+                return otro;
+            }
+            if (periodo - distancia <= MARGEN) {
+                return otro + periodo;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double[] unir(double[] primeros, double[] segundos) {
+        double[] todos = Arrays.copyOf(primeros, primeros.length + segundos.length);
+        System.arraycopy(segundos, 0, todos, primeros.length, segundos.length);
+        Arrays.sort(todos);
+        return todos;
+    }
+}
@@ -0,0 +1,354 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.dto.SistemaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.AlmacenPronosticos;
+import com.challenge.climate.model.CicloClimatico;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.utils.ClimaHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportación de los pronósticos de un horizonte a archivos, sin servidor web. Se activa con el perfil {@code batch}.
+ * <p>
+ * Las posiciones se repiten cada periodo de las órbitas, a lo sumo 360 días, así que se calcula un periodo con el
+ * clasificador configurado y cada día del horizonte se toma de su día equivalente en el periodo. El horizonte se
+ * divide en bloques que se codifican en paralelo:
+ * <ul>
+ *     <li>CSV: una línea por día. La parte de cada línea que no depende del número de día se arma una sola vez por
+ *     día del periodo. Los bloques se escriben en orden a medida que terminan.</li>
+ *     <li>Binario: el formato columnar de {@link SnapshotPronosticos}, que el servicio web puede abrir mapeado en
+ *     memoria. Como la cabecera indica dónde empieza cada columna, cada bloque escribe sus columnas en su posición
+ *     sin esperar a los anteriores.</li>
+ * </ul>
+ * Cada archivo se escribe en un temporal del mismo directorio que, completo y sincronizado con el disco, reemplaza
+ * al definitivo en un solo paso, igual que {@link SnapshotPronosticos#guardar}.
+ */
+@Component
+@Profile("batch")
+public class ExportacionPronosticos implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExportacionPronosticos.class);
+
+    public static final String FORMATO_CSV = "csv";
+    public static final String FORMATO_BINARIO = "binario";
+
+    /**
+     * Dígitos de un número de día: hasta {@link Integer#MAX_VALUE}.
+     */
+    private static final int DIGITOS_DIA = 10;
+
+    /**
+     * Cota del largo de una línea CSV: el día, el clima más largo, los grados de cada planeta entre -180 y 180, el
+     * perímetro (un double ocupa hasta 24 caracteres) y los separadores.
+     */
+    private static final int LARGO_MAXIMO_LINEA = DIGITOS_DIA
+            + 1 + Arrays.stream(ClimaEnum.values()).mapToInt(clima -> clima.name().length()).max().orElse(0)
+            + Dia.PLANETAS.size() * ",-180".length()
+            + 1 + 24 + 1;
+
+    private final ClimaService climaService;
+    private final ObjectMapper objectMapper;
+    private final int totalDias;
+    private final Path directorio;
+    private final Set<String> formatos;
+    private final int diasPorBloque;
+    private final int hilos;
+    private final String archivoConfiguracion;
+
+    public ExportacionPronosticos(ClimaService climaService, ObjectMapper objectMapper,
+                                  @Value("${clima.exportacion.dias:3650}") int totalDias,
+                                  @Value("${clima.exportacion.directorio:exportacion}") Path directorio,
+                                  @Value("${clima.exportacion.formatos:csv,binario}") Set<String> formatos,
+                                  @Value("${clima.exportacion.bloque:65536}") int diasPorBloque,
+                                  @Value("${clima.exportacion.hilos:0}") int hilos,
+                                  @Value("${clima.exportacion.configuracion:}") String archivoConfiguracion) {
+        if (totalDias < 1 || diasPorBloque < 1) {
+            throw new IllegalArgumentException("clima.exportacion.dias y clima.exportacion.bloque deben ser mayores a 0");
+        }
+        if (diasPorBloque > Integer.MAX_VALUE / LARGO_MAXIMO_LINEA) {
+            throw new IllegalArgumentException("clima.exportacion.bloque admite hasta "
+                    + Integer.MAX_VALUE / LARGO_MAXIMO_LINEA + " dias: " + diasPorBloque);
+        }
+        if (!Set.of(FORMATO_CSV, FORMATO_BINARIO).containsAll(formatos)) {
+            throw new IllegalArgumentException("clima.exportacion.formatos admite csv y binario: " + formatos);
+        }
+        this.climaService = climaService;
+        this.objectMapper = objectMapper;
+        this.totalDias = totalDias;
+        this.directorio = directorio;
+        this.formatos = formatos;
+        this.diasPorBloque = diasPorBloque;
+        this.hilos = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+        this.archivoConfiguracion = archivoConfiguracion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        exportar(leerConfiguracion());
+    }
+
+    /**
+     * Lee la configuración de los planetas de {@code clima.exportacion.configuracion}, un JSON con el mismo
+     * formato que el registro de sistemas. Si no se indica se usa la configuración por defecto.
+     */
+    private Map<PlanetaEnum, PlanetaDTO> leerConfiguracion() throws IOException {
+        if (archivoConfiguracion.isBlank()) {
+            return ClimaService.crearConfiguracion();
+        }
+        SistemaDTO sistema = objectMapper.readValue(Path.of(archivoConfiguracion).toFile(), SistemaDTO.class);
+        return SistemasPlanetarios.validar(sistema.planetas());
+    }
+
+    /**
+     * Exporta los días 1 a {@code clima.exportacion.dias} de una configuración en los formatos indicados.
+     *
+     * @param configuracion la configuración de los planetas
+     * @return los archivos escritos
+     * @throws IOException si no se pueden escribir los archivos
+     * @throws InterruptedException si se interrumpe la exportación
+     */
+    public List<Path> exportar(Map<PlanetaEnum, PlanetaDTO> configuracion) throws IOException, InterruptedException {
+        long inicio = System.nanoTime();
+        int periodo = (int) ClimaHelper.calcularPeriodo(configuracion.values());
+        Simulacion simulacion = climaService.calcularPronosticos(configuracion, periodo);
+        CicloClimatico ciclo = simulacion.getCiclo();
+        long huella = simulacion.getHuella();
+
+        Files.createDirectories(directorio);
+        String nombre = SnapshotPronosticos.getNombreArchivo(huella, totalDias);
+        Path archivoCsv = directorio.resolve(nombre.replaceFirst("\\.bin$", ".csv"));
+        Path archivoBinario = directorio.resolve(nombre);
+        List<Path> archivos = new ArrayList<>();
+        Path temporalCsv = null;
+        Path temporalBinario = null;
+        boolean terminada = false;
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            temporalCsv = formatos.contains(FORMATO_CSV) ? crearTemporal(archivoCsv) : null;
+            temporalBinario = formatos.contains(FORMATO_BINARIO) ? crearTemporal(archivoBinario) : null;
+            try (FileChannel csv = temporalCsv != null ? abrir(temporalCsv) : null;
+                 FileChannel binario = temporalBinario != null ? abrir(temporalBinario) : null) {
+                byte[][] lineas = crearLineasCsv(simulacion.getAlmacen(), periodo);
+                SnapshotPronosticos.Cabecera cabecera = null;
+                if (csv != null) {
+                    escribir(csv, ByteBuffer.wrap(crearEncabezadoCsv()));
+                    archivos.add(archivoCsv);
+                }
+                if (binario != null) {
+                    long diaMayorLluvia = ciclo.obtenerDiaMayorLluvia(1, totalDias);
+                    Map<ClimaEnum, Long> conteos = ciclo.contarClimas(1, totalDias);
+                    cabecera = new SnapshotPronosticos.Cabecera(huella, totalDias,
+                            Arrays.stream(ClimaEnum.values()).mapToLong(conteos::get).toArray(),
+                            diaMayorLluvia, diaMayorLluvia == 0 ? 0 : ciclo.getPerimetroLluvia(diaMayorLluvia));
+                    ByteBuffer buffer = ByteBuffer.allocate((int) cabecera.getInicioGrados(0)).order(SnapshotPronosticos.ORDEN);
+                    cabecera.escribir(buffer);
+                    escribir(binario, buffer.flip(), 0);
+                    archivos.add(archivoBinario);
+                }
+
+                SnapshotPronosticos.Cabecera columnas = cabecera;
+                Deque<Future<ByteBuffer>> pendientes = new ArrayDeque<>();
+                for (long desde = 1; desde <= totalDias; desde += diasPorBloque) {
+                    int primerDia = (int) desde;
+                    int ultimoDia = (int) Math.min(totalDias, desde + diasPorBloque - 1);
+                    pendientes.add(ejecutor.submit(() -> {
+                        if (binario != null) {
+                            escribirBloqueBinario(binario, columnas, simulacion.getAlmacen(), periodo, primerDia, ultimoDia);
+                        }
+                        return csv == null ? null : crearBloqueCsv(lineas, periodo, primerDia, ultimoDia);
+                    }));
+                    if (pendientes.size() >= 2 * hilos) {
+                        escribirSiguiente(pendientes, csv);
+                    }
+                }
+                while (!pendientes.isEmpty()) {
+                    escribirSiguiente(pendientes, csv);
+                }
+                if (csv != null) {
+                    csv.force(true);
+                }
+                if (binario != null) {
+                    binario.force(true);
+                }
+            }
+            mover(temporalCsv, archivoCsv);
+            mover(temporalBinario, archivoBinario);
+            terminada = true;
+        } finally {
+            ejecutor.shutdownNow();
+            if (!terminada) {
+                borrar(temporalCsv);
+                borrar(temporalBinario);
+            }
+        }
+
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        LOGGER.info("Exportados {} dias en {} ms con {} hilos: {} dias/s, {}", totalDias,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio), hilos, Math.round(totalDias / segundos), archivos);
+        return archivos;
+    }
+
+    /**
+     * Crea el temporal de un archivo en su mismo directorio, para moverlo al terminar sin copiarlo.
+     */
+    private static Path crearTemporal(Path archivo) throws IOException {
+        return Files.createTempFile(archivo.getParent(), archivo.getFileName().toString(), ".tmp");
+    }
+
+    private static FileChannel abrir(Path archivo) throws IOException {
+        return FileChannel.open(archivo, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Reemplaza el archivo por su temporal completo en un solo paso, así el servicio nunca abre como snapshot un
+     * archivo a medio escribir. Antes le da los permisos de lectura que {@link Files#createTempFile} no da.
+     */
+    private static void mover(Path temporal, Path archivo) throws IOException {
+        if (temporal != null) {
+            SnapshotPronosticos.permitirLectura(temporal);
+            Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void borrar(Path temporal) {
+        if (temporal == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporal);
+        } catch (IOException ex) {
+            LOGGER.warn("No se pudo borrar el temporal {}", temporal, ex);
+        }
+    }
+
+    /**
+     * Espera el bloque más antiguo y escribe su CSV, así el archivo queda en orden de días.
+     */
+    private static void escribirSiguiente(Deque<Future<ByteBuffer>> pendientes, FileChannel csv)
+            throws IOException, InterruptedException {
+        ByteBuffer bloque;
+        try {
+            bloque = pendientes.poll().get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Fallo la exportacion de un bloque", ex.getCause());
+        }
+        if (csv != null) {
+            escribir(csv, bloque);
+        }
+    }
+
+    private static byte[] crearEncabezadoCsv() {
+        StringBuilder encabezado = new StringBuilder("dia,clima");
+        for (PlanetaEnum planeta : Dia.PLANETAS) {
+            encabezado.append(",grados_").append(planeta.name().toLowerCase(Locale.ROOT));
+        }
+        return encabezado.append(",perimetro\n").toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Arma, para cada día del periodo, la parte de la línea CSV que sigue al número de día.
+     */
+    private static byte[][] crearLineasCsv(AlmacenPronosticos almacen, int periodo) {
+        byte[][] lineas = new byte[periodo][];
+        for (int dia = 1; dia <= periodo; dia++) {
+            StringBuilder linea = new StringBuilder().append(',').append(almacen.getClima(dia).name());
+            for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+                linea.append(',').append(almacen.getGrados(planeta, dia));
+            }
+            linea.append(',').append(almacen.getPerimetro(dia)).append('\n');
+            lineas[dia - 1] = linea.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        return lineas;
+    }
+
+    private static ByteBuffer crearBloqueCsv(byte[][] lineas, int periodo, int primerDia, int ultimoDia) {
+        int largoMaximo = Arrays.stream(lineas).mapToInt(linea -> linea.length).max().orElse(0) + DIGITOS_DIA;
+        byte[] bloque = new byte[(ultimoDia - primerDia + 1) * largoMaximo];
+        byte[] digitos = new byte[DIGITOS_DIA];
+        int posicion = 0;
+        for (int dia = primerDia; dia <= ultimoDia; dia++) {
+            int cantidad = 0;
+            for (int resto = dia; resto > 0; resto /= 10) {
+                digitos[DIGITOS_DIA - ++cantidad] = (byte) ('0' + resto % 10);
+            }
+            System.arraycopy(digitos, DIGITOS_DIA - cantidad, bloque, posicion, cantidad);
+            posicion += cantidad;
+
+            byte[] linea = lineas[(dia - 1) % periodo];
+            System.arraycopy(linea, 0, bloque, posicion, linea.length);
+            posicion += linea.length;
+        }
+        return ByteBuffer.wrap(bloque, 0, posicion);
+    }
+
+    /**
+     * Escribe las columnas de un bloque de días en sus posiciones del archivo binario.
+     */
+    private static void escribirBloqueBinario(FileChannel canal, SnapshotPronosticos.Cabecera cabecera,
+                                              AlmacenPronosticos almacen, int periodo, int primerDia, int ultimoDia)
+            throws IOException {
+        int dias = ultimoDia - primerDia + 1;
+        ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES * dias).order(SnapshotPronosticos.ORDEN);
+        for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+            buffer.clear();
+            for (int dia = primerDia; dia <= ultimoDia; dia++) {
+                buffer.putShort((short) almacen.getGrados(planeta, (dia - 1) % periodo + 1));
+            }
+            escribir(canal, buffer.flip(), cabecera.getInicioGrados(planeta) + (long) Short.BYTES * (primerDia - 1));
+        }
+
+        buffer.clear();
+        for (int dia = primerDia; dia <= ultimoDia; dia++) {
+            buffer.put((byte) almacen.getClima((dia - 1) % periodo + 1).ordinal());
+        }
+        escribir(canal, buffer.flip(), cabecera.getInicioClimas() + primerDia - 1);
+
+        buffer.clear();
+        for (int dia = primerDia; dia <= ultimoDia; dia++) {
+            buffer.putDouble(almacen.getPerimetro((dia - 1) % periodo + 1));
+        }
+        escribir(canal, buffer.flip(), cabecera.getInicioPerimetros() + (long) Double.BYTES * (primerDia - 1));
+    }
+
+    private static void escribir(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    private static void escribir(FileChannel canal, ByteBuffer buffer, long posicion) throws IOException {
+        while (buffer.hasRemaining()) {
+            posicion += canal.write(buffer, posicion);
+        }
+    }
+}
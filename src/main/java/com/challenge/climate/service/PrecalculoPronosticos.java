@@ -0,0 +1,174 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.EstadoDTO;
+import com.challenge.climate.exceptions.ServicioNoDisponibleException;
+import com.challenge.climate.model.Simulacion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.challenge.climate.utils.Constantes.PRECALCULO_EN_CURSO;
+import static com.challenge.climate.utils.Constantes.PRECALCULO_FALLIDO;
+
+/**
+ * Precalcula los pronósticos en segundo plano una vez levantado el contexto.
+ * <p>
+ * Si existe un snapshot de la misma configuración se abre en lugar de calcular. Si no, se calcula y se guarda
+ * el snapshot para el próximo arranque.
+ * <p>
+ * Mientras el cálculo no termina la aplicación informa {@link ReadinessState#REFUSING_TRAFFIC} y los
+ * endpoints responden 503, así el servidor acepta conexiones sin esperar a la simulación. Si el cálculo falla se
+ * informa {@link LivenessState#BROKEN} para que el orquestador reinicie la instancia, y el error se ve en el estado.
+ * <p>
+ * Publica como métricas la duración del precálculo y el tamaño del almacenamiento de los días.
+ * Solo existe con el servidor web: la exportación del perfil {@code batch} no usa los días precalculados.
+ */
+@ConditionalOnWebApplication
+@Component
+public class PrecalculoPronosticos {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecalculoPronosticos.class);
+
+    private final ClimaService climaService;
+    private final SnapshotPronosticos snapshot;
+    private final ApplicationEventPublisher publisher;
+    private final int totalDias;
+    private final AtomicBoolean iniciado = new AtomicBoolean();
+    private volatile Simulacion simulacion;
+    private volatile Long duracionMs;
+    private volatile String error;
+
+    public PrecalculoPronosticos(ClimaService climaService, SnapshotPronosticos snapshot, ApplicationEventPublisher publisher,
+                                 @Value("${clima.dias.precalculados:3650}") int totalDias) {
+        this.climaService = climaService;
+        this.snapshot = snapshot;
+        this.publisher = publisher;
+        this.totalDias = totalDias;
+        registrarMetricas(climaService.getMetricas().getRegistro());
+    }
+
+    private void registrarMetricas(MeterRegistry registro) {
+        TimeGauge.builder("clima.precalculo.duracion", this, TimeUnit.MILLISECONDS,
+                        precalculo -> precalculo.duracionMs == null ? Double.NaN : precalculo.duracionMs)
+                .description("Duracion del precalculo o de la apertura del snapshot")
+                .register(registro);
+        Gauge.builder("clima.almacen.dias", this,
+                        precalculo -> precalculo.simulacion == null ? 0 : precalculo.simulacion.getAlmacen().getTotalDias())
+                .description("Dias guardados en el almacenamiento precalculado")
+                .register(registro);
+        Gauge.builder("clima.almacen.tamano", this,
+                        precalculo -> precalculo.simulacion == null ? 0 : precalculo.simulacion.getAlmacen().getTamanoBytes())
+                .description("Tamano del almacenamiento precalculado")
+                .baseUnit("bytes")
+                .register(registro);
+    }
+
+    /**
+     * Inicia el precálculo en un hilo propio la primera vez que se refresca el contexto.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void iniciar() {
+        if (iniciado.compareAndSet(false, true)) {
+            Thread hilo = new Thread(this::calcular, "precalculo-pronosticos");
+            hilo.setDaemon(true);
+            hilo.start();
+        }
+    }
+
+    /**
+     * Abre o calcula la simulación. Se captura cualquier {@link Throwable}, porque la falla más probable es un
+     * {@link OutOfMemoryError} al reservar los días. El snapshot se guarda después de aceptar tráfico y una falla
+     * al guardarlo solo se registra: la simulación ya está disponible.
+     */
+    private void calcular() {
+        long inicio = System.nanoTime();
+        Optional<Simulacion> guardada;
+        Simulacion resultado;
+        try {
+            guardada = snapshot.abrir(ClimaService.crearConfiguracion(), totalDias);
+            resultado = guardada.isPresent() ? guardada.get() : climaService.calcularPronosticos(totalDias);
+            synchronized (this) {
+                duracionMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                simulacion = resultado;
+                AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Fallo el precalculo de los pronosticos", ex);
+            synchronized (this) {
+                error = ex.toString();
+                AvailabilityChangeEvent.publish(publisher, this, LivenessState.BROKEN);
+            }
+            return;
+        }
+
+        if (guardada.isPresent()) {
+            LOGGER.info("Pronosticos de {} dias abiertos desde el snapshot en {} ms", totalDias, duracionMs);
+            return;
+        }
+        LOGGER.info("Pronosticos de {} dias precalculados en {} ms", totalDias, duracionMs);
+        try {
+            snapshot.guardar(resultado);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("No se pudo guardar el snapshot de los pronosticos", ex);
+        }
+    }
+
+    /**
+     * Spring Boot informa que acepta tráfico al terminar el arranque. Si el precálculo sigue en curso se
+     * vuelve a informar que no acepta tráfico hasta que termine.
+     *
+     * @param evento el cambio de disponibilidad
+     */
+    @EventListener
+    public synchronized void alCambiarDisponibilidad(AvailabilityChangeEvent<ReadinessState> evento) {
+        if (evento.getState() == ReadinessState.ACCEPTING_TRAFFIC && simulacion == null) {
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Spring Boot informa que la aplicación funciona al terminar el arranque. Si el precálculo ya falló se vuelve
+     * a informar que está rota.
+     *
+     * @param evento el cambio de estado
+     */
+    @EventListener
+    public synchronized void alCambiarEstado(AvailabilityChangeEvent<LivenessState> evento) {
+        if (evento.getState() == LivenessState.CORRECT && error != null) {
+            AvailabilityChangeEvent.publish(publisher, this, LivenessState.BROKEN);
+        }
+    }
+
+    /**
+     * Obtiene la simulación precalculada.
+     *
+     * @return la {@link Simulacion} precalculada
+     * @throws ServicioNoDisponibleException si el precálculo todavía no terminó o falló
+     */
+    public Simulacion getSimulacion() {
+        Simulacion actual = simulacion;
+        if (actual == null) {
+            throw new ServicioNoDisponibleException(error == null ? PRECALCULO_EN_CURSO : PRECALCULO_FALLIDO);
+        }
+        return actual;
+    }
+
+    public EstadoDTO getEstado() {
+        return new EstadoDTO(simulacion != null, totalDias, duracionMs, error);
+    }
+}
@@ -0,0 +1,154 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.model.RespuestaSerializada;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.utils.MetricasClima;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de las respuestas serializadas de los pronósticos.
+ * <p>
+ * Los pronósticos de una simulación no cambian, así que la respuesta de /resultados y la de los primeros
+ * {@code clima.cache.dias} días se serializan una sola vez, en JSON y en gzip. Los ETags se derivan de la
+ * huella de la configuración y del horizonte, con un sufijo para la versión en gzip, y se pueden calcular sin
+ * serializar nada. Los aciertos y fallos de la cache de días se publican como métricas.
+ */
+@Component
+public class RespuestasSerializadas {
+
+    private final ClimaService climaService;
+    private final ObjectMapper objectMapper;
+    private final int diasEnCache;
+    private final MetricasClima.Busqueda busquedasDias;
+    private volatile Cache cache;
+
+    public RespuestasSerializadas(ClimaService climaService, ObjectMapper objectMapper,
+                                  @Value("${clima.cache.dias:3650}") int diasEnCache) {
+        this.climaService = climaService;
+        this.objectMapper = objectMapper;
+        this.diasEnCache = diasEnCache;
+        this.busquedasDias = climaService.getMetricas().busqueda("respuestas-dia");
+    }
+
+    public static String etagResultados(Simulacion simulacion) {
+        return String.format("\"%016x-%d-resultados\"", simulacion.getHuella(), simulacion.getAlmacen().getTotalDias());
+    }
+
+    public static String etagResultados(Simulacion simulacion, long desde, long hasta) {
+        return String.format("\"%016x-resultados-%d-%d\"", simulacion.getHuella(), desde, hasta);
+    }
+
+    public static String etagDia(Simulacion simulacion, long dia) {
+        return String.format("\"%016x-dia-%d\"", simulacion.getHuella(), dia);
+    }
+
+    /**
+     * Obtiene el ETag de la versión en gzip de una respuesta. Un ETag fuerte identifica los bytes del cuerpo, así
+     * que el cuerpo comprimido necesita uno distinto del de JSON.
+     *
+     * @param etag el ETag de la respuesta en JSON
+     * @return el mismo ETag con el sufijo {@code -gzip}
+     */
+    public static String etagGzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Obtiene la respuesta de las condiciones climáticas de todo el horizonte calculado.
+     *
+     * @param simulacion la simulación de referencia
+     * @return la respuesta serializada, calculada solo la primera vez
+     */
+    public RespuestaSerializada getResultados(Simulacion simulacion) {
+        Cache actual = getCache(simulacion);
+        RespuestaSerializada respuesta = actual.resultados;
+        if (respuesta == null) {
+            respuesta = serializar(simulacion.getCondiciones(), etagResultados(simulacion));
+            actual.resultados = respuesta;
+        }
+        return respuesta;
+    }
+
+    /**
+     * Obtiene la respuesta del pronóstico de un día. Los días fuera de la cache se serializan en cada llamada.
+     *
+     * @param simulacion la simulación de referencia
+     * @param dia el número de día, mayor o igual a 1
+     * @return la respuesta serializada
+     */
+    public RespuestaSerializada getDia(Simulacion simulacion, long dia) {
+        Cache actual = getCache(simulacion);
+        if (dia > actual.dias.length()) {
+            busquedasDias.registrar(false);
+            return serializar(climaService.getPronostico(simulacion, dia), etagDia(simulacion, dia));
+        }
+
+        int posicion = (int) dia - 1;
+        RespuestaSerializada respuesta = actual.dias.get(posicion);
+        busquedasDias.registrar(respuesta != null);
+        if (respuesta == null) {
+            respuesta = serializar(climaService.getPronostico(simulacion, dia), etagDia(simulacion, dia));
+            actual.dias.set(posicion, respuesta);
+        }
+        return respuesta;
+    }
+
+    /**
+     * Serializa una respuesta en JSON y en gzip.
+     *
+     * @param valor el objeto a serializar
+     * @param etag el ETag de la respuesta
+     * @return la respuesta serializada
+     */
+    public RespuestaSerializada serializar(Object valor, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(valor);
+            ByteArrayOutputStream comprimido = new ByteArrayOutputStream(json.length);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+                gzip.write(json);
+            }
+            return new RespuestaSerializada(etag, json, comprimido.toByteArray());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Obtiene la cache de una simulación. Si la simulación cambió se descarta la cache anterior.
+     */
+    private Cache getCache(Simulacion simulacion) {
+        Cache actual = cache;
+        if (actual == null || actual.simulacion != simulacion) {
+            actual = new Cache(simulacion, Math.min(diasEnCache, simulacion.getAlmacen().getTotalDias()));
+            cache = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * Respuestas serializadas de una simulación. Dos hilos pueden serializar la misma respuesta a la vez,
+     * pero el resultado es el mismo y cualquiera de los dos es válido.
+     */
+    private static final class Cache {
+
+        private final Simulacion simulacion;
+        private final AtomicReferenceArray<RespuestaSerializada> dias;
+        private volatile RespuestaSerializada resultados;
+
+        private Cache(Simulacion simulacion, int dias) {
+            this.simulacion = simulacion;
+            this.dias = new AtomicReferenceArray<>(Math.max(dias, 0));
+        }
+    }
+}
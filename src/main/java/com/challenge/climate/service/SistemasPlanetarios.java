@@ -0,0 +1,378 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.BarridoDTO;
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.dto.CondicionesSistemaDTO;
+import com.challenge.climate.dto.ConfiguracionBarridoDTO;
+import com.challenge.climate.dto.CuerpoDTO;
+import com.challenge.climate.dto.EstadisticasCacheDTO;
+import com.challenge.climate.dto.GrillaPlanetaDTO;
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.dto.PronosticoDTO;
+import com.challenge.climate.dto.ResultadoBarridoDTO;
+import com.challenge.climate.dto.SistemaDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.exceptions.ParametroIncorrectoException;
+import com.challenge.climate.exceptions.ServicioNoDisponibleException;
+import com.challenge.climate.exceptions.SistemaInexistenteException;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.model.SistemaPlanetario;
+import com.challenge.climate.utils.CacheLru;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.challenge.climate.utils.Constantes.BARRIDOS_EN_CURSO;
+import static com.challenge.climate.utils.Constantes.BARRIDO_INCORRECTO;
+import static com.challenge.climate.utils.Constantes.CONFIGURACIONES_MAXIMAS;
+import static com.challenge.climate.utils.Constantes.CUERPOS_INCORRECTOS;
+import static com.challenge.climate.utils.Constantes.CUERPOS_MAXIMOS;
+import static com.challenge.climate.utils.Constantes.RADIO_MAXIMO;
+import static com.challenge.climate.utils.Constantes.RANGO_INVALIDO;
+import static com.challenge.climate.utils.Constantes.SISTEMA_INCORRECTO;
+import static com.challenge.climate.utils.Constantes.SISTEMA_INEXISTENTE;
+
+/**
+ * Sistemas planetarios definidos por los usuarios.
+ * <p>
+ * Cada sistema se identifica por la huella de su configuración, así que registrar dos veces la misma
+ * configuración devuelve el mismo sistema. Las simulaciones se calculan al consultarlas y se guardan en una
+ * {@link CacheLru} acotada por cantidad y por tamaño; las configuraciones registradas también tienen un máximo.
+ * <p>
+ * Los sistemas usan su propio clasificador, {@code PRODUCTO_CRUZ} por defecto, porque con radios y velocidades
+ * arbitrarias los planetas pueden alinearse verticalmente y el clasificador de pendientes no lo admite.
+ * <p>
+ * Los barridos se evalúan en un {@link ForkJoinPool} propio, para no ocupar el pool común ni los hilos de las
+ * consultas, y se admite una cantidad acotada de barridos a la vez.
+ * <p>
+ * Las estadísticas de la cache y la cantidad de sistemas registrados se publican como métricas.
+ */
+@Service
+public class SistemasPlanetarios {
+
+    private final ClimaService climaService;
+    private final int totalDias;
+    private final int sistemasMaximos;
+    private final Map<String, Map<PlanetaEnum, PlanetaDTO>> sistemas;
+    private final CacheLru<String, Simulacion> simulaciones;
+    private final ForkJoinPool poolBarridos;
+    private final Semaphore barridosDisponibles;
+
+    public SistemasPlanetarios(@Value("${clima.sistemas.clasificador:PRODUCTO_CRUZ}") ClasificadorEnum clasificador,
+                               @Value("${clima.sistemas.dias:3650}") int totalDias,
+                               @Value("${clima.sistemas.maximo:1000}") int sistemasMaximos,
+                               @Value("${clima.sistemas.cache.entradas:32}") int entradasMaximas,
+                               @Value("${clima.sistemas.cache.bytes:268435456}") long bytesMaximos,
+                               @Value("${clima.sistemas.barrido.hilos:0}") int hilosBarrido,
+                               @Value("${clima.sistemas.barrido.concurrentes:2}") int barridosConcurrentes,
+                               MeterRegistry registro) {
+        this.climaService = new ClimaService(clasificador, registro);
+        this.totalDias = totalDias;
+        this.sistemasMaximos = sistemasMaximos;
+        this.sistemas = new LinkedHashMap<>(16, 0.75f, true);
+        this.simulaciones = new CacheLru<>(entradasMaximas, bytesMaximos, simulacion -> simulacion.getAlmacen().getTamanoBytes());
+        this.poolBarridos = new ForkJoinPool(hilosBarrido > 0 ? hilosBarrido : Runtime.getRuntime().availableProcessors());
+        this.barridosDisponibles = new Semaphore(barridosConcurrentes);
+        registrarMetricas(registro);
+    }
+
+    private void registrarMetricas(MeterRegistry registro) {
+        FunctionCounter.builder("clima.sistemas.cache.busquedas", simulaciones, CacheLru::getAciertos)
+                .description("Busquedas en la cache de simulaciones, por resultado")
+                .tag("resultado", "acierto")
+                .register(registro);
+        FunctionCounter.builder("clima.sistemas.cache.busquedas", simulaciones, CacheLru::getFallos)
+                .description("Busquedas en la cache de simulaciones, por resultado")
+                .tag("resultado", "fallo")
+                .register(registro);
+        FunctionCounter.builder("clima.sistemas.cache.desalojos", simulaciones, CacheLru::getDesalojos)
+                .description("Simulaciones desalojadas de la cache")
+                .register(registro);
+        Gauge.builder("clima.sistemas.cache.entradas", simulaciones, CacheLru::getEntradas)
+                .description("Simulaciones en la cache")
+                .register(registro);
+        Gauge.builder("clima.sistemas.cache.tamano", simulaciones, CacheLru::getPeso)
+                .description("Tamano de las simulaciones en la cache")
+                .baseUnit("bytes")
+                .register(registro);
+        Gauge.builder("clima.sistemas.registrados", sistemas, registrados -> {
+                    synchronized (registrados) {
+                        return registrados.size();
+                    }
+                })
+                .description("Sistemas registrados")
+                .register(registro);
+    }
+
+    /**
+     * Registra un sistema. Si se supera el máximo de sistemas se olvida el consultado hace más tiempo.
+     *
+     * @param planetas la configuración de Ferengi, Betasoide y Vulcano
+     * @return el sistema registrado, con su identificador
+     * @throws ParametroIncorrectoException si la configuración no es válida
+     */
+    public SistemaDTO registrar(List<PlanetaDTO> planetas) {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = validar(planetas);
+        String id = String.format("%016x", climaService.calcularHuella(configuracion));
+
+        synchronized (sistemas) {
+            sistemas.put(id, configuracion);
+            if (sistemas.size() > sistemasMaximos) {
+                Iterator<String> antiguos = sistemas.keySet().iterator();
+                antiguos.next();
+                antiguos.remove();
+            }
+        }
+        return toDTO(id, configuracion);
+    }
+
+    /**
+     * @param id el identificador del sistema
+     * @return el sistema registrado
+     * @throws SistemaInexistenteException si no hay un sistema registrado con ese identificador
+     */
+    public SistemaDTO getSistema(String id) {
+        return toDTO(id, getConfiguracion(id));
+    }
+
+    /**
+     * Obtiene la simulación de un sistema, calculándola si no está en la cache.
+     *
+     * @param id el identificador del sistema
+     * @return la {@link Simulacion} del sistema
+     * @throws SistemaInexistenteException si no hay un sistema registrado con ese identificador
+     */
+    public Simulacion getSimulacion(String id) {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = getConfiguracion(id);
+        return simulaciones.obtener(id, clave -> climaService.calcularPronosticos(configuracion, totalDias));
+    }
+
+    /**
+     * Obtiene el pronóstico de un día de un sistema.
+     *
+     * @param id el identificador del sistema
+     * @param dia el número de día, mayor o igual a 1
+     * @return el {@link PronosticoDTO} del día
+     */
+    public PronosticoDTO getPronostico(String id, long dia) {
+        return climaService.getPronostico(getSimulacion(id), dia);
+    }
+
+    /**
+     * Obtiene las condiciones climáticas de un rango de días de un sistema.
+     *
+     * @param id el identificador del sistema
+     * @param desde el primer día del rango, o null para empezar en el día 1
+     * @param hasta el último día del rango, o null para usar el horizonte calculado
+     * @return las condiciones climáticas del rango
+     * @throws ParametroIncorrectoException si el rango es inválido
+     */
+    public CondicionesClimaticasDTO calcularCondiciones(String id, Long desde, Long hasta) {
+        Simulacion simulacion = getSimulacion(id);
+        if (desde == null && hasta == null) {
+            return simulacion.getCondiciones();
+        }
+
+        long primerDia = desde == null ? 1 : desde;
+        long ultimoDia = hasta == null ? simulacion.getAlmacen().getTotalDias() : hasta;
+        if (primerDia < 1 || ultimoDia < primerDia) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        return climaService.calcularCondiciones(simulacion, primerDia, ultimoDia);
+    }
+
+    /**
+     * Calcula las condiciones climáticas de un rango de días en un sistema de cualquier cantidad de planetas,
+     * sin registrarlo.
+     *
+     * @param cuerpos los planetas del sistema
+     * @param desde el primer día del rango, o null para empezar en el día 1
+     * @param hasta el último día del rango, o null para usar el horizonte de los sistemas
+     * @return las condiciones climáticas del rango
+     * @throws ParametroIncorrectoException si los planetas o el rango son inválidos
+     */
+    public CondicionesSistemaDTO simular(List<CuerpoDTO> cuerpos, Long desde, Long hasta) {
+        long primerDia = desde == null ? 1 : desde;
+        long ultimoDia = hasta == null ? totalDias : hasta;
+        if (primerDia < 1 || ultimoDia < primerDia) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        return climaService.calcularCondiciones(crearSistema(cuerpos), primerDia, ultimoDia);
+    }
+
+    /**
+     * Evalúa todas las combinaciones de los valores de cada planeta en paralelo, en el pool de los barridos. Cada
+     * configuración clasifica un solo ciclo de las órbitas, así que el costo no depende del horizonte.
+     *
+     * @param barrido los valores a probar de cada planeta y el horizonte
+     * @return el resultado de cada configuración y las configuraciones evaluadas por segundo
+     * @throws ParametroIncorrectoException si el barrido, alguna configuración o el horizonte son inválidos
+     * @throws ServicioNoDisponibleException si ya hay {@code clima.sistemas.barrido.concurrentes} barridos en curso
+     */
+    public ResultadoBarridoDTO barrer(BarridoDTO barrido) {
+        long dias = barrido.dias() == null ? totalDias : barrido.dias();
+        if (dias < 1) {
+            throw new ParametroIncorrectoException(RANGO_INVALIDO);
+        }
+        GrillaPlanetaDTO[] grillas = ordenarGrillas(barrido.planetas());
+        int configuraciones = contarConfiguraciones(grillas);
+
+        if (!barridosDisponibles.tryAcquire()) {
+            throw new ServicioNoDisponibleException(BARRIDOS_EN_CURSO);
+        }
+        long inicio = System.nanoTime();
+        List<ConfiguracionBarridoDTO> resultados;
+        try {
+            // Una stream paralela usa el pool desde el que se invoca, en lugar del pool común
+            resultados = poolBarridos.submit(() -> IntStream.range(0, configuraciones).parallel()
+                    .mapToObj(indice -> {
+                        Map<PlanetaEnum, PlanetaDTO> configuracion = crearConfiguracion(grillas, indice);
+                        return new ConfiguracionBarridoDTO(toDTO(null, configuracion).planetas(),
+                                climaService.calcularCondicionesCiclo(configuracion, dias));
+                    })
+                    .toList())
+                    .join();
+        } finally {
+            barridosDisponibles.release();
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        return new ResultadoBarridoDTO(dias, configuraciones, TimeUnit.NANOSECONDS.toMillis(duracion),
+                Math.round(configuraciones / (duracion / 1e9)), resultados);
+    }
+
+    /**
+     * Ordena las grillas como {@link Dia#PLANETAS} y verifica que cada planeta aparezca una vez con algún valor.
+     */
+    private static GrillaPlanetaDTO[] ordenarGrillas(List<GrillaPlanetaDTO> planetas) {
+        String error = String.format(BARRIDO_INCORRECTO, CONFIGURACIONES_MAXIMAS);
+        GrillaPlanetaDTO[] grillas = new GrillaPlanetaDTO[Dia.PLANETAS.size()];
+        if (planetas == null || planetas.size() != grillas.length) {
+            throw new ParametroIncorrectoException(error);
+        }
+        for (GrillaPlanetaDTO grilla : planetas) {
+            int posicion = grilla == null ? -1 : Dia.PLANETAS.indexOf(grilla.nombre());
+            if (posicion < 0 || grillas[posicion] != null || incompleta(grilla.radios())
+                    || incompleta(grilla.orientaciones()) || incompleta(grilla.velocidades())) {
+                throw new ParametroIncorrectoException(error);
+            }
+            grillas[posicion] = grilla;
+        }
+        return grillas;
+    }
+
+    private static boolean incompleta(List<?> valores) {
+        return valores == null || valores.isEmpty() || valores.contains(null);
+    }
+
+    private static int contarConfiguraciones(GrillaPlanetaDTO[] grillas) {
+        long configuraciones = 1;
+        for (GrillaPlanetaDTO grilla : grillas) {
+            configuraciones *= (long) grilla.radios().size() * grilla.orientaciones().size() * grilla.velocidades().size();
+            if (configuraciones > CONFIGURACIONES_MAXIMAS) {
+                throw new ParametroIncorrectoException(String.format(BARRIDO_INCORRECTO, CONFIGURACIONES_MAXIMAS));
+            }
+        }
+        return (int) configuraciones;
+    }
+
+    /**
+     * Arma la configuración de una combinación: el índice se descompone en la posición de cada valor en su grilla,
+     * con la velocidad del último planeta variando más rápido.
+     */
+    private static Map<PlanetaEnum, PlanetaDTO> crearConfiguracion(GrillaPlanetaDTO[] grillas, int indice) {
+        PlanetaDTO[] planetas = new PlanetaDTO[grillas.length];
+        int resto = indice;
+        for (int planeta = grillas.length - 1; planeta >= 0; planeta--) {
+            GrillaPlanetaDTO grilla = grillas[planeta];
+            int velocidad = grilla.velocidades().get(resto % grilla.velocidades().size());
+            resto /= grilla.velocidades().size();
+            OrientacionEnum orientacion = grilla.orientaciones().get(resto % grilla.orientaciones().size());
+            resto /= grilla.orientaciones().size();
+            double radio = grilla.radios().get(resto % grilla.radios().size());
+            resto /= grilla.radios().size();
+            planetas[planeta] = new PlanetaDTO(grilla.nombre(), radio, orientacion, velocidad);
+        }
+        return validar(Arrays.asList(planetas));
+    }
+
+    public EstadisticasCacheDTO getEstadisticas() {
+        return new EstadisticasCacheDTO(simulaciones.getAciertos(), simulaciones.getFallos(), simulaciones.getDesalojos(),
+                simulaciones.getEntradas(), simulaciones.getEntradasMaximas(), simulaciones.getPeso(),
+                simulaciones.getPesoMaximo());
+    }
+
+    private Map<PlanetaEnum, PlanetaDTO> getConfiguracion(String id) {
+        Map<PlanetaEnum, PlanetaDTO> configuracion;
+        synchronized (sistemas) {
+            configuracion = sistemas.get(id);
+        }
+        if (configuracion == null) {
+            throw new SistemaInexistenteException(String.format(SISTEMA_INEXISTENTE, id));
+        }
+        return configuracion;
+    }
+
+    /**
+     * Valida la configuración de un sistema y la copia, para que no cambie después de registrada.
+     */
+    static Map<PlanetaEnum, PlanetaDTO> validar(List<PlanetaDTO> planetas) {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = new EnumMap<>(PlanetaEnum.class);
+        if (planetas == null) {
+            throw new ParametroIncorrectoException(SISTEMA_INCORRECTO);
+        }
+
+        for (PlanetaDTO planeta : planetas) {
+            if (planeta == null || !Dia.PLANETAS.contains(planeta.getNombre()) || configuracion.containsKey(planeta.getNombre())
+                    || !(planeta.getRadio() > 0) || planeta.getRadio() > RADIO_MAXIMO
+                    || planeta.getVelocidad() < 0 || planeta.getOrientacion() == null) {
+                throw new ParametroIncorrectoException(SISTEMA_INCORRECTO);
+            }
+            configuracion.put(planeta.getNombre(), new PlanetaDTO(planeta.getNombre(), planeta.getRadio(),
+                    planeta.getOrientacion(), planeta.getVelocidad()));
+        }
+        if (configuracion.size() != Dia.PLANETAS.size()) {
+            throw new ParametroIncorrectoException(SISTEMA_INCORRECTO);
+        }
+        return configuracion;
+    }
+
+    /**
+     * Valida los planetas de un sistema de cualquier cantidad de cuerpos y crea el {@link SistemaPlanetario}.
+     */
+    private static SistemaPlanetario crearSistema(List<CuerpoDTO> cuerpos) {
+        if (cuerpos == null || cuerpos.isEmpty() || cuerpos.size() > CUERPOS_MAXIMOS) {
+            throw new ParametroIncorrectoException(String.format(CUERPOS_INCORRECTOS, CUERPOS_MAXIMOS));
+        }
+
+        double[] radios = new double[cuerpos.size()];
+        OrientacionEnum[] orientaciones = new OrientacionEnum[cuerpos.size()];
+        int[] velocidades = new int[cuerpos.size()];
+        for (int planeta = 0; planeta < cuerpos.size(); planeta++) {
+            CuerpoDTO cuerpo = cuerpos.get(planeta);
+            if (cuerpo == null || !(cuerpo.radio() > 0) || cuerpo.radio() > RADIO_MAXIMO
+                    || cuerpo.velocidad() < 0 || cuerpo.orientacion() == null) {
+                throw new ParametroIncorrectoException(String.format(CUERPOS_INCORRECTOS, CUERPOS_MAXIMOS));
+            }
+            radios[planeta] = cuerpo.radio();
+            orientaciones[planeta] = cuerpo.orientacion();
+            velocidades[planeta] = cuerpo.velocidad();
+        }
+        return new SistemaPlanetario(radios, orientaciones, velocidades);
+    }
+
+    private static SistemaDTO toDTO(String id, Map<PlanetaEnum, PlanetaDTO> configuracion) {
+        return new SistemaDTO(id, Dia.PLANETAS.stream().map(configuracion::get).toList());
+    }
+}
@@ -0,0 +1,293 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Guarda y abre snapshots binarios de los días calculados.
+ * <p>
+ * Cada snapshot se identifica por la huella de la configuración y la cantidad de días. El archivo tiene una
+ * cabecera con el resumen de la simulación seguida de una columna por dato, en little-endian:
+ * <ul>
+ *     <li>los grados de cada planeta como shorts, en el orden de {@link Dia#PLANETAS};</li>
+ *     <li>el ordinal del clima de cada día como bytes;</li>
+ *     <li>el perímetro de cada día como doubles, alineados a 8 bytes.</li>
+ * </ul>
+ * Al abrirlo las columnas se mapean en memoria y los días se leen directamente del archivo.
+ */
+@Component
+public class SnapshotPronosticos {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotPronosticos.class);
+
+    private static final int MAGICO = 0x4D494C43; // "CLIM" en little-endian
+    private static final int VERSION = 1;
+    static final ByteOrder ORDEN = ByteOrder.LITTLE_ENDIAN;
+    private static final int TAMANO_BUFFER = 1 << 20;
+    private static final Set<PosixFilePermission> PERMISOS_ARCHIVO = PosixFilePermissions.fromString("rw-r--r--");
+
+    private final ClimaService climaService;
+    private final boolean habilitado;
+    private final Path directorio;
+
+    public SnapshotPronosticos(ClimaService climaService,
+                               @Value("${clima.snapshot.habilitado:true}") boolean habilitado,
+                               @Value("${clima.snapshot.directorio:${java.io.tmpdir}/climate-snapshots}") Path directorio) {
+        this.climaService = climaService;
+        this.habilitado = habilitado;
+        this.directorio = directorio;
+    }
+
+    /**
+     * Abre el snapshot de una configuración, si existe y es válido.
+     *
+     * @param configuracion la configuración de los planetas
+     * @param totalDias la cantidad de días
+     * @return la {@link Simulacion} respaldada por el archivo mapeado, o vacío si no hay un snapshot utilizable
+     */
+    public Optional<Simulacion> abrir(Map<PlanetaEnum, PlanetaDTO> configuracion, int totalDias) {
+        if (!habilitado) {
+            return Optional.empty();
+        }
+
+        long huella = climaService.calcularHuella(configuracion);
+        Path archivo = getArchivo(huella, totalDias);
+        if (!Files.isRegularFile(archivo)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            Cabecera cabecera = Cabecera.leer(canal);
+            if (cabecera == null || cabecera.huella != huella || cabecera.totalDias != totalDias
+                    || canal.size() != cabecera.getTamanoArchivo()) {
+                LOGGER.warn("Se ignora el snapshot {} porque no corresponde a la configuracion actual", archivo);
+                return Optional.empty();
+            }
+
+            ColumnaMapeada[] grados = new ColumnaMapeada[Dia.PLANETAS.size()];
+            for (int planeta = 0; planeta < grados.length; planeta++) {
+                grados[planeta] = ColumnaMapeada.mapear(canal, cabecera.getInicioGrados(planeta), 2L * totalDias, ORDEN);
+            }
+            ColumnaMapeada climas = ColumnaMapeada.mapear(canal, cabecera.getInicioClimas(), totalDias, ORDEN);
+            ColumnaMapeada perimetros = ColumnaMapeada.mapear(canal, cabecera.getInicioPerimetros(), 8L * totalDias, ORDEN);
+
+            AlmacenPronosticos almacen = new AlmacenPronosticosMapeado(configuracion, totalDias, grados, climas, perimetros);
+            ResumenClimas resumen = new ResumenClimas(cabecera.conteos, cabecera.diaMayorLluvia, cabecera.perimetroMayorLluvia);
+            return Optional.of(climaService.crearSimulacion(configuracion, almacen, resumen));
+        } catch (IOException ex) {
+            LOGGER.warn("No se pudo abrir el snapshot {}", archivo, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Guarda los días de una simulación. El archivo se escribe en un temporal y se mueve a su nombre
+     * definitivo al terminar, así nunca queda un snapshot a medio escribir.
+     *
+     * @param simulacion la simulación a guardar
+     */
+    public void guardar(Simulacion simulacion) {
+        if (!habilitado) {
+            return;
+        }
+
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        Path archivo = getArchivo(simulacion.getHuella(), almacen.getTotalDias());
+        Path temporal = null;
+        try {
+            Files.createDirectories(directorio);
+            temporal = Files.createTempFile(directorio, archivo.getFileName().toString(), ".tmp");
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+                escribir(canal, simulacion);
+                canal.force(true);
+            }
+            permitirLectura(temporal);
+            Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Snapshot de {} dias guardado en {}", almacen.getTotalDias(), archivo);
+        } catch (IOException ex) {
+            LOGGER.warn("No se pudo guardar el snapshot {}", archivo, ex);
+            borrar(temporal);
+        }
+    }
+
+    private void escribir(FileChannel canal, Simulacion simulacion) throws IOException {
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        int totalDias = almacen.getTotalDias();
+        Cabecera cabecera = new Cabecera(simulacion.getHuella(), totalDias, simulacion.getConteos(),
+                simulacion.getDiaMayorLluvia(), simulacion.getPerimetroMayorLluvia());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANO_BUFFER).order(ORDEN);
+        cabecera.escribir(buffer);
+
+        for (int planeta = 0; planeta < Dia.PLANETAS.size(); planeta++) {
+            for (int dia = 1; dia <= totalDias; dia++) {
+                vaciarSiFalta(canal, buffer, Short.BYTES);
+                buffer.putShort((short) almacen.getGrados(planeta, dia));
+            }
+        }
+        for (int dia = 1; dia <= totalDias; dia++) {
+            vaciarSiFalta(canal, buffer, Byte.BYTES);
+            buffer.put((byte) almacen.getClima(dia).ordinal());
+        }
+        while ((canal.position() + buffer.position()) % Double.BYTES != 0) {
+            buffer.put((byte) 0);
+        }
+        for (int dia = 1; dia <= totalDias; dia++) {
+            vaciarSiFalta(canal, buffer, Double.BYTES);
+            buffer.putDouble(almacen.getPerimetro(dia));
+        }
+        vaciar(canal, buffer);
+    }
+
+    private static void vaciarSiFalta(FileChannel canal, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            vaciar(canal, buffer);
+        }
+    }
+
+    private static void vaciar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void borrar(Path temporal) {
+        if (temporal == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporal);
+        } catch (IOException ex) {
+            LOGGER.warn("No se pudo borrar el temporal {}", temporal, ex);
+        }
+    }
+
+    /**
+     * {@link Files#createTempFile} crea el temporal legible solo por su dueño, y el movimiento conserva los permisos.
+     * Si el sistema de archivos es POSIX se le dan los permisos habituales de un archivo, 0644, antes de moverlo.
+     *
+     * @param temporal el temporal completo
+     * @throws IOException si no se pueden cambiar los permisos
+     */
+    static void permitirLectura(Path temporal) throws IOException {
+        if (temporal.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(temporal, PERMISOS_ARCHIVO);
+        }
+    }
+
+    private Path getArchivo(long huella, int totalDias) {
+        return directorio.resolve(getNombreArchivo(huella, totalDias));
+    }
+
+    /**
+     * @return el nombre del snapshot de una configuración y una cantidad de días
+     */
+    static String getNombreArchivo(long huella, int totalDias) {
+        return String.format("pronosticos-%016x-%d.bin", huella, totalDias);
+    }
+
+    /**
+     * Cabecera del snapshot: identificación del formato, huella, dimensiones y resumen de la simulación.
+     * Indica dónde empieza cada columna, así la exportación puede escribir los bloques en cualquier orden.
+     */
+    static final class Cabecera {
+
+        private static final int CANTIDAD_CLIMAS = ClimaEnum.values().length;
+        private static final int TAMANO = 4 + 4 + 8 + 4 + 4 + 4 + 8 * CANTIDAD_CLIMAS + 8 + 8;
+
+        private final long huella;
+        private final int totalDias;
+        private final long[] conteos;
+        private final long diaMayorLluvia;
+        private final double perimetroMayorLluvia;
+
+        Cabecera(long huella, int totalDias, long[] conteos, long diaMayorLluvia, double perimetroMayorLluvia) {
+            this.huella = huella;
+            this.totalDias = totalDias;
+            this.conteos = conteos;
+            this.diaMayorLluvia = diaMayorLluvia;
+            this.perimetroMayorLluvia = perimetroMayorLluvia;
+        }
+
+        /**
+         * Lee la cabecera desde el inicio del archivo.
+         *
+         * @return la cabecera, o null si el archivo no es un snapshot de esta versión
+         */
+        private static Cabecera leer(FileChannel canal) throws IOException {
+            if (canal.size() < TAMANO) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(TAMANO).order(ORDEN);
+            while (buffer.hasRemaining() && canal.read(buffer, buffer.position()) >= 0) {
+                // lee hasta completar la cabecera
+            }
+            buffer.flip();
+
+            if (buffer.getInt() != MAGICO || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long huella = buffer.getLong();
+            if (buffer.getInt() != Dia.PLANETAS.size()) {
+                return null;
+            }
+            int totalDias = buffer.getInt();
+            if (buffer.getInt() != CANTIDAD_CLIMAS) {
+                return null;
+            }
+            long[] conteos = new long[CANTIDAD_CLIMAS];
+            for (int clima = 0; clima < CANTIDAD_CLIMAS; clima++) {
+                conteos[clima] = buffer.getLong();
+            }
+            return new Cabecera(huella, totalDias, conteos, buffer.getLong(), buffer.getDouble());
+        }
+
+        void escribir(ByteBuffer buffer) {
+            buffer.putInt(MAGICO).putInt(VERSION).putLong(huella)
+                    .putInt(Dia.PLANETAS.size()).putInt(totalDias).putInt(CANTIDAD_CLIMAS);
+            for (long conteo : conteos) {
+                buffer.putLong(conteo);
+            }
+            buffer.putLong(diaMayorLluvia).putDouble(perimetroMayorLluvia);
+        }
+
+        long getInicioGrados(int planeta) {
+            return TAMANO + 2L * totalDias * planeta;
+        }
+
+        long getInicioClimas() {
+            return getInicioGrados(Dia.PLANETAS.size());
+        }
+
+        long getInicioPerimetros() {
+            long finClimas = getInicioClimas() + totalDias;
+            return (finClimas + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+        }
+
+        private long getTamanoArchivo() {
+            return getInicioPerimetros() + 8L * totalDias;
+        }
+    }
+}
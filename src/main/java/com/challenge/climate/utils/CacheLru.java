@@ -0,0 +1,151 @@
+package com.challenge.climate.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache LRU acotada por cantidad de entradas y por peso total.
+ * <p>
+ * Al superar cualquiera de los dos límites se desalojan las entradas usadas hace más tiempo. Si varios hilos
+ * piden a la vez una clave ausente, solo uno la calcula y el resto espera su resultado.
+ *
+ * @param <K> el tipo de las claves
+ * @param <V> el tipo de los valores
+ */
+public class CacheLru<K, V> {
+
+    private final int entradasMaximas;
+    private final long pesoMaximo;
+    private final ToLongFunction<V> pesador;
+    private final LinkedHashMap<K, V> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> enCalculo = new ConcurrentHashMap<>();
+
+    private long peso;
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+
+    /**
+     * @param entradasMaximas la cantidad máxima de entradas
+     * @param pesoMaximo el peso total máximo de las entradas
+     * @param pesador calcula el peso de un valor
+     */
+    public CacheLru(int entradasMaximas, long pesoMaximo, ToLongFunction<V> pesador) {
+        this.entradasMaximas = entradasMaximas;
+        this.pesoMaximo = pesoMaximo;
+        this.pesador = pesador;
+    }
+
+    /**
+     * Obtiene el valor de una clave, calculándolo si no está en la cache.
+     *
+     * @param clave la clave
+     * @param calcular calcula el valor de una clave ausente
+     * @return el valor de la clave
+     */
+    public V obtener(K clave, Function<K, V> calcular) {
+        V valor = buscar(clave, true);
+        if (valor != null) {
+            return valor;
+        }
+
+        CompletableFuture<V> nuevo = new CompletableFuture<>();
+        CompletableFuture<V> existente = enCalculo.putIfAbsent(clave, nuevo);
+        if (existente != null) {
+            return esperar(existente);
+        }
+
+        try {
+            valor = buscar(clave, false);
+            if (valor == null) {
+                valor = calcular.apply(clave);
+                guardar(clave, valor);
+            }
+            nuevo.complete(valor);
+            return valor;
+        } catch (RuntimeException ex) {
+            nuevo.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            enCalculo.remove(clave);
+        }
+    }
+
+    private synchronized V buscar(K clave, boolean contar) {
+        V valor = entradas.get(clave);
+        if (contar) {
+            if (valor != null) {
+                aciertos++;
+            } else {
+                fallos++;
+            }
+        }
+        return valor;
+    }
+
+    /**
+     * Guarda un valor y desaloja las entradas más antiguas hasta respetar los límites. Un valor que pesa
+     * más que el máximo no se guarda.
+     */
+    private synchronized void guardar(K clave, V valor) {
+        long pesoValor = pesador.applyAsLong(valor);
+        if (pesoValor > pesoMaximo) {
+            return;
+        }
+
+        entradas.put(clave, valor);
+        peso += pesoValor;
+        Iterator<V> antiguos = entradas.values().iterator();
+        while (entradas.size() > entradasMaximas || peso > pesoMaximo) {
+            V desalojado = antiguos.next();
+            antiguos.remove();
+            peso -= pesador.applyAsLong(desalojado);
+            desalojos++;
+        }
+    }
+
+    private static <V> V esperar(CompletableFuture<V> calculo) {
+        try {
+            return calculo.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    public synchronized long getDesalojos() {
+        return desalojos;
+    }
+
+    public synchronized int getEntradas() {
+        return entradas.size();
+    }
+
+    public synchronized long getPeso() {
+        return peso;
+    }
+
+    public long getPesoMaximo() {
+        return pesoMaximo;
+    }
+
+    public int getEntradasMaximas() {
+        return entradasMaximas;
+    }
+}
@@ -0,0 +1,34 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Posicion;
+
+/**
+ * Estrategia para determinar el clima de un día a partir de las posiciones de los planetas.
+ */
+public interface ClasificadorClima {
+
+    /**
+     * Determina el clima de un día.
+     *
+     * @param dia el día con las posiciones planetarias
+     * @param posicionSol la posición del sol
+     * @return el tipo de clima del día
+     */
+    ClimaEnum clasificar(Dia dia, Posicion posicionSol);
+
+    /**
+     * Obtiene el clasificador correspondiente a un tipo.
+     *
+     * @param tipo el tipo de clasificador
+     * @return el {@link ClasificadorClima} del tipo indicado
+     */
+    static ClasificadorClima de(ClasificadorEnum tipo) {
+        return switch (tipo) {
+            case PENDIENTES -> new ClasificadorPendientes();
+            case PRODUCTO_CRUZ -> new ClasificadorProductoCruz();
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Posicion;
+
+/**
+ * Clasificador original: compara pendientes y cuadrantes con {@link ClimaHelper}.
+ */
+public class ClasificadorPendientes implements ClasificadorClima {
+
+    @Override
+    public ClimaEnum clasificar(Dia dia, Posicion posicionSol) {
+        if (ClimaHelper.esSequia(dia)) {
+            return ClimaEnum.SEQUIA;
+        } else if (ClimaHelper.esOptimo(dia, posicionSol)) {
+            return ClimaEnum.OPTIMO;
+        } else if (ClimaHelper.esLluvia(dia, posicionSol)) {
+            return ClimaEnum.LLUVIA;
+        }
+        return ClimaEnum.INDEFINIDO;
+    }
+}
@@ -0,0 +1,79 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.model.PosicionesPlanetas;
+
+import static com.challenge.climate.utils.Constantes.GRADOS_180;
+
+/**
+ * Clasificador de climas para sistemas de cualquier cantidad de planetas.
+ * <p>
+ * Generaliza las reglas de {@link ClasificadorProductoCruz}:
+ * <ul>
+ *     <li>Sequía: todos los planetas están sobre la misma recta que pasa por el sol, según sus grados.</li>
+ *     <li>Óptimo: todos los planetas están a no más de {@link Constantes#TOLERANCIA_ALINEACION} veces la
+ *     distancia entre los dos más alejados de la recta que los une, y el sol no.</li>
+ *     <li>Lluvia: el sol está dentro de la envolvente convexa de los planetas.</li>
+ * </ul>
+ * El costo por día es O(n log n) por la envolvente. Con tres planetas la envolvente es el triángulo y los
+ * resultados coinciden con {@link ClasificadorProductoCruz}.
+ */
+public class ClasificadorPlanetas {
+
+    private final int[] extremos = new int[2];
+
+    /**
+     * Clasifica el clima de un día.
+     *
+     * @param posiciones las posiciones del día, con la envolvente ya calculada
+     * @return el clima del día
+     */
+    public ClimaEnum clasificar(PosicionesPlanetas posiciones) {
+        if (esSequia(posiciones)) {
+            return ClimaEnum.SEQUIA;
+        }
+
+        long[] x = posiciones.getEnvolventeX();
+        long[] y = posiciones.getEnvolventeY();
+        int tamano = posiciones.getTamanoEnvolvente();
+        GeometriaHelper.diametro(x, y, tamano, extremos);
+        long xa = x[extremos[0]];
+        long ya = y[extremos[0]];
+        long xb = x[extremos[1]];
+        long yb = y[extremos[1]];
+        long cuadradoLado = GeometriaHelper.cuadradoDistancia(xa, ya, xb, yb);
+
+        if (estanAlineados(x, y, tamano, xa, ya, xb, yb, cuadradoLado)) {
+            return GeometriaHelper.estaCerca(GeometriaHelper.productoCruz(xa, ya, xb, yb, 0, 0), cuadradoLado)
+                    ? ClimaEnum.INDEFINIDO : ClimaEnum.OPTIMO;
+        }
+        return GeometriaHelper.contieneOrigen(x, y, tamano) ? ClimaEnum.LLUVIA : ClimaEnum.INDEFINIDO;
+    }
+
+    /**
+     * Verifica si todos los planetas están sobre una misma recta que pasa por el sol: sus grados difieren
+     * en múltiplos de 180.
+     */
+    private static boolean esSequia(PosicionesPlanetas posiciones) {
+        int referencia = posiciones.getGrados(0);
+        for (int planeta = 1; planeta < posiciones.getCantidad(); planeta++) {
+            if (Math.floorMod(posiciones.getGrados(planeta) - referencia, GRADOS_180) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si todos los vértices de la envolvente están cerca de la recta ab. Si lo están los vértices,
+     * lo están todos los planetas, porque quedan dentro de la envolvente.
+     */
+    private static boolean estanAlineados(long[] x, long[] y, int tamano, long xa, long ya, long xb, long yb, long cuadradoLado) {
+        for (int vertice = 0; vertice < tamano; vertice++) {
+            if (!GeometriaHelper.estaCerca(GeometriaHelper.productoCruz(xa, ya, xb, yb, x[vertice], y[vertice]), cuadradoLado)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
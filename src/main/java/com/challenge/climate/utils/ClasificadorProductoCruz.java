@@ -0,0 +1,60 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Posicion;
+
+/**
+ * Clasificador basado en productos cruz sobre las coordenadas enteras de los planetas.
+ * <p>
+ * La alineación con el sol se decide con los grados, como en {@link ClimaHelper#esSequia(Dia)}. La alineación
+ * entre planetas compara la distancia del planeta del medio a la recta que une a los otros dos con la longitud de
+ * esa recta, sin divisiones, por lo que las alineaciones verticales se tratan igual que las demás. La lluvia se
+ * decide con la orientación del sol respecto de cada lado del triángulo.
+ */
+public class ClasificadorProductoCruz implements ClasificadorClima {
+
+    @Override
+    public ClimaEnum clasificar(Dia dia, Posicion posicionSol) {
+        if (ClimaHelper.esSequia(dia)) {
+            return ClimaEnum.SEQUIA;
+        }
+
+        long x1 = (long) PosicionHelper.getX(dia.getPosicionPlaneta1());
+        long y1 = (long) PosicionHelper.getY(dia.getPosicionPlaneta1());
+        long x2 = (long) PosicionHelper.getX(dia.getPosicionPlaneta2());
+        long y2 = (long) PosicionHelper.getY(dia.getPosicionPlaneta2());
+        long x3 = (long) PosicionHelper.getX(dia.getPosicionPlaneta3());
+        long y3 = (long) PosicionHelper.getY(dia.getPosicionPlaneta3());
+        long xSol = (long) PosicionHelper.getX(posicionSol);
+        long ySol = (long) PosicionHelper.getY(posicionSol);
+
+        long orientacion12 = GeometriaHelper.productoCruz(x1, y1, x2, y2, xSol, ySol);
+        long orientacion23 = GeometriaHelper.productoCruz(x2, y2, x3, y3, xSol, ySol);
+        long orientacion31 = GeometriaHelper.productoCruz(x3, y3, x1, y1, xSol, ySol);
+
+        long lado12 = GeometriaHelper.cuadradoDistancia(x1, y1, x2, y2);
+        long lado23 = GeometriaHelper.cuadradoDistancia(x2, y2, x3, y3);
+        long lado31 = GeometriaHelper.cuadradoDistancia(x3, y3, x1, y1);
+
+        // El lado más largo une a los planetas de los extremos y su producto cruz con el sol mide la distancia del sol a la recta.
+        long ladoMayor = lado12;
+        long orientacionSol = orientacion12;
+        if (lado23 > ladoMayor) {
+            ladoMayor = lado23;
+            orientacionSol = orientacion23;
+        }
+        if (lado31 > ladoMayor) {
+            ladoMayor = lado31;
+            orientacionSol = orientacion31;
+        }
+
+        if (GeometriaHelper.estaCerca(GeometriaHelper.productoCruz(x1, y1, x2, y2, x3, y3), ladoMayor)) {
+            return GeometriaHelper.estaCerca(orientacionSol, ladoMayor) ? ClimaEnum.INDEFINIDO : ClimaEnum.OPTIMO;
+        }
+
+        boolean solALaIzquierda = orientacion12 > 0 && orientacion23 > 0 && orientacion31 > 0;
+        boolean solALaDerecha = orientacion12 < 0 && orientacion23 < 0 && orientacion31 < 0;
+        return solALaIzquierda || solALaDerecha ? ClimaEnum.LLUVIA : ClimaEnum.INDEFINIDO;
+    }
+}
@@ -1,13 +1,46 @@
-package com.challenge.climate.utils;
-
-public class Constantes {
-    public static final String CLIMA_INEXISTENTE = "El clima %s no existe.";
-    public static final String DIA_INCORRECTO = "No hay registro del dia requerido.";
-    public static final int GRADOS_0 = 0;
-    public static final int GRADOS_90 = 90;
-    public static final int GRADOS_180 = 180;
-    public static final int GRADOS_360 = 360;
-    public static final int GRADOS_MINUS_90 = -90;
-    public static final int GRADOS_MINUS_180 = -180;
-    public static final int GRADOS_MINUS_360 = -360;
-}
+package com.challenge.climate.utils;
+
+public class Constantes {
+    public static final String CLIMA_INEXISTENTE = "El clima %s no existe.";
+    public static final String DIA_INCORRECTO = "No hay registro del dia requerido.";
+    public static final String SIN_LLUVIA = "No hay dias de lluvia en el rango requerido.";
+    public static final String PRECALCULO_EN_CURSO = "Los pronosticos se estan calculando, intente nuevamente en unos segundos.";
+    public static final String PRECALCULO_FALLIDO = "Fallo el precalculo de los pronosticos, la instancia se va a reiniciar.";
+    public static final String REINTENTAR_EN_SEGUNDOS = "5";
+    public static final String SISTEMA_INEXISTENTE = "El sistema %s no existe, registrelo nuevamente.";
+    public static final String SISTEMA_INCORRECTO = "El sistema debe definir una vez a FERENGI, BETASOIDE y VULCANO, con radio mayor a 0 y hasta 500000000, velocidad mayor o igual a 0 y orientacion.";
+    public static final String CUERPOS_INCORRECTOS = "El sistema debe tener entre 1 y %d planetas, con radio mayor a 0 y hasta 500000000, velocidad mayor o igual a 0 y orientacion.";
+    public static final String BARRIDO_INCORRECTO = "El barrido debe definir una vez a FERENGI, BETASOIDE y VULCANO, con al menos un radio, una orientacion y una velocidad, y hasta %d configuraciones.";
+    public static final int CONFIGURACIONES_MAXIMAS = 100000;
+    public static final String BARRIDOS_EN_CURSO = "Hay demasiados barridos en curso, intente nuevamente en unos segundos.";
+    public static final String RANGO_INCORRECTO = "El rango de dias debe estar entre 1 y %d.";
+    public static final String RANGO_INVALIDO = "El rango de dias es invalido: desde debe ser mayor o igual a 1 y hasta mayor o igual a desde.";
+    public static final String EVENTOS_RANGO_INVALIDO = "El rango de instantes es invalido: desde debe ser mayor o igual a 0 y hasta mayor o igual a desde.";
+    public static final String EVENTOS_RANGO_INCORRECTO = "Los instantes deben estar entre 0 y %.0f dias.";
+    public static final double EVENTOS_INSTANTE_MAXIMO = 1e9;
+    public static final String LIMITE_INCORRECTO = "El limite debe estar entre 1 y %d.";
+    public static final String HEADER_SIGUIENTE_DESDE = "X-Siguiente-Desde";
+    public static final String HEADER_TOTAL_DIAS = "X-Total-Dias";
+    public static final int LIMITE_MAXIMO = 10000;
+    public static final String CONSULTA_DIAS_INCORRECTA = "La consulta debe tener entre 1 y %d dias o rangos.";
+    public static final int CONSULTAS_MAXIMAS = 100000;
+    public static final String CONSULTA_INCORRECTA = "Cada condicion debe definir una sola de y, o, no, clima, planeta con cuadrante o hemisferio, o perimetroMayor y perimetroMenor, y la consulta hasta %d condiciones.";
+    public static final int CONDICIONES_MAXIMAS = 1000;
+    public static final String SERIE_INCORRECTA = "La serie debe tener hasta %d dias.";
+    public static final int SERIE_DIAS_MAXIMOS = 1_000_000;
+    public static final String DIAS_INCORRECTOS = "La consulta debe tener hasta %d dias.";
+    public static final int DIAS_MAXIMOS = 1_000_000;
+    public static final String GZIP = "gzip";
+    public static final String PENDIENTE_INDEFINIDA = "Pendiente indefinida: los puntos tienen la misma coordenada X.";
+    public static final int GRADOS_0 = 0;
+    public static final int GRADOS_90 = 90;
+    public static final int GRADOS_180 = 180;
+    public static final int GRADOS_360 = 360;
+    public static final int GRADOS_MINUS_90 = -90;
+    public static final int GRADOS_MINUS_180 = -180;
+    public static final int GRADOS_MINUS_360 = -360;
+    public static final long PENDIENTE_DELTA_MAXIMO = 1L << 48;
+    public static final double TOLERANCIA_ALINEACION = 0.03;
+    public static final double RADIO_MAXIMO = 500_000_000;
+    public static final int CUERPOS_MAXIMOS = 64;
+}
@@ -0,0 +1,172 @@
+package com.challenge.climate.utils;
+
+import java.util.Arrays;
+
+import static com.challenge.climate.utils.Constantes.TOLERANCIA_ALINEACION;
+
+/**
+ * Operaciones geométricas sobre puntos de coordenadas enteras guardados en arreglos primitivos.
+ * <p>
+ * Las coordenadas deben estar entre -{@link Constantes#RADIO_MAXIMO} y {@link Constantes#RADIO_MAXIMO},
+ * así los productos cruz entran en un long sin desbordar.
+ */
+public class GeometriaHelper {
+
+    private static final long DESPLAZAMIENTO = 1L << 30;
+    private static final long MASCARA = (1L << 32) - 1;
+
+    /**
+     * Empaqueta un punto en un long que, al ordenarse, ordena los puntos por X y luego por Y.
+     *
+     * @param x la coordenada X
+     * @param y la coordenada Y
+     * @return el punto empaquetado
+     */
+    public static long empaquetar(long x, long y) {
+        return (x + DESPLAZAMIENTO) << 32 | (y + DESPLAZAMIENTO);
+    }
+
+    /**
+     * Calcula la envolvente convexa con el algoritmo de cadena monótona, en O(n log n).
+     * Los puntos se ordenan como longs empaquetados, sin crear objetos.
+     *
+     * @param puntos los puntos empaquetados con {@link #empaquetar(long, long)}; se reordenan
+     * @param cantidad la cantidad de puntos
+     * @param envolventeX recibe la X de cada vértice, con lugar para cantidad + 1 valores
+     * @param envolventeY recibe la Y de cada vértice, con lugar para cantidad + 1 valores
+     * @return la cantidad de vértices, en sentido antihorario y sin puntos colineales
+     */
+    public static int envolventeConvexa(long[] puntos, int cantidad, long[] envolventeX, long[] envolventeY) {
+        Arrays.sort(puntos, 0, cantidad);
+        if (cantidad == 1) {
+            envolventeX[0] = (puntos[0] >>> 32) - DESPLAZAMIENTO;
+            envolventeY[0] = (puntos[0] & MASCARA) - DESPLAZAMIENTO;
+            return 1;
+        }
+
+        int tamano = 0;
+
+        for (int pasada = 0; pasada < 2; pasada++) {
+            int inicio = tamano;
+            for (int i = 0; i < cantidad; i++) {
+                long punto = puntos[pasada == 0 ? i : cantidad - 1 - i];
+                long x = (punto >>> 32) - DESPLAZAMIENTO;
+                long y = (punto & MASCARA) - DESPLAZAMIENTO;
+                while (tamano >= inicio + 2 && productoCruz(envolventeX[tamano - 2], envolventeY[tamano - 2],
+                        envolventeX[tamano - 1], envolventeY[tamano - 1], x, y) <= 0) {
+                    tamano--;
+                }
+                envolventeX[tamano] = x;
+                envolventeY[tamano] = y;
+                tamano++;
+            }
+            // El último punto de cada cadena es el primero de la otra.
+            tamano--;
+        }
+        return tamano;
+    }
+
+    /**
+     * Calcula el producto cruz (b - a) x (c - a). Su valor absoluto es el doble del área del triángulo abc
+     * y su signo indica de qué lado de la recta ab está c.
+     */
+    public static long productoCruz(long xa, long ya, long xb, long yb, long xc, long yc) {
+        return (xb - xa) * (yc - ya) - (yb - ya) * (xc - xa);
+    }
+
+    public static long cuadradoDistancia(long xa, long ya, long xb, long yb) {
+        return (xb - xa) * (xb - xa) + (yb - ya) * (yb - ya);
+    }
+
+    /**
+     * Verifica si un punto está a no más de {@link Constantes#TOLERANCIA_ALINEACION} veces la longitud del lado de
+     * una recta, comparando cuadrados: (cruz / lado)² <= (tolerancia ⋅ lado)². La tolerancia es relativa al lado para
+     * que no dependa de la escala de los radios.
+     * Es la regla de alineación de {@link ClasificadorProductoCruz} y {@link ClasificadorPlanetas}.
+     *
+     * @param productoCruz el producto cruz del punto respecto de la recta
+     * @param cuadradoLado el cuadrado de la longitud del segmento que define la recta
+     * @return true si el punto está sobre la recta dentro de la tolerancia, false en caso contrario
+     */
+    public static boolean estaCerca(long productoCruz, long cuadradoLado) {
+        double cruz = productoCruz;
+        double maximo = TOLERANCIA_ALINEACION * cuadradoLado;
+        return cruz * cruz <= maximo * maximo;
+    }
+
+    /**
+     * Busca el par de vértices más alejados de una envolvente convexa con calibres rotantes, en O(h).
+     *
+     * @param x la X de cada vértice, en sentido antihorario
+     * @param y la Y de cada vértice, en sentido antihorario
+     * @param tamano la cantidad de vértices
+     * @param extremos recibe las posiciones de los dos vértices
+     */
+    public static void diametro(long[] x, long[] y, int tamano, int[] extremos) {
+        extremos[0] = 0;
+        extremos[1] = tamano > 1 ? 1 : 0;
+        if (tamano < 3) {
+            return;
+        }
+
+        long mayor = -1;
+        int opuesto = 1;
+        for (int actual = 0; actual < tamano; actual++) {
+            int siguiente = (actual + 1) % tamano;
+            while (Math.abs(productoCruz(x[actual], y[actual], x[siguiente], y[siguiente], x[(opuesto + 1) % tamano], y[(opuesto + 1) % tamano]))
+                    > Math.abs(productoCruz(x[actual], y[actual], x[siguiente], y[siguiente], x[opuesto], y[opuesto]))) {
+                opuesto = (opuesto + 1) % tamano;
+            }
+            long distanciaActual = cuadradoDistancia(x[actual], y[actual], x[opuesto], y[opuesto]);
+            if (distanciaActual > mayor) {
+                mayor = distanciaActual;
+                extremos[0] = actual;
+                extremos[1] = opuesto;
+            }
+            long distanciaSiguiente = cuadradoDistancia(x[siguiente], y[siguiente], x[opuesto], y[opuesto]);
+            if (distanciaSiguiente > mayor) {
+                mayor = distanciaSiguiente;
+                extremos[0] = siguiente;
+                extremos[1] = opuesto;
+            }
+        }
+    }
+
+    /**
+     * Verifica si el origen, donde está el sol, está estrictamente dentro de una envolvente convexa.
+     *
+     * @param x la X de cada vértice, en sentido antihorario
+     * @param y la Y de cada vértice, en sentido antihorario
+     * @param tamano la cantidad de vértices
+     * @return true si el origen está dentro y no sobre un lado, false en caso contrario
+     */
+    public static boolean contieneOrigen(long[] x, long[] y, int tamano) {
+        if (tamano < 3) {
+            return false;
+        }
+        for (int actual = 0; actual < tamano; actual++) {
+            int siguiente = actual + 1 == tamano ? 0 : actual + 1;
+            if (productoCruz(x[actual], y[actual], x[siguiente], y[siguiente], 0, 0) <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el perímetro de un polígono. Con dos vértices es el doble de la distancia entre ellos.
+     *
+     * @param x la X de cada vértice
+     * @param y la Y de cada vértice
+     * @param tamano la cantidad de vértices
+     * @return el perímetro
+     */
+    public static double perimetro(long[] x, long[] y, int tamano) {
+        double perimetro = 0;
+        for (int actual = 0; actual < tamano; actual++) {
+            int siguiente = actual + 1 == tamano ? 0 : actual + 1;
+            perimetro += Math.hypot(x[actual] - x[siguiente], y[actual] - y[siguiente]);
+        }
+        return perimetro;
+    }
+}
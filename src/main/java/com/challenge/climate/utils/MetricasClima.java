@@ -0,0 +1,153 @@
+package com.challenge.climate.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Métricas de las fases de cálculo y de las consultas de un {@link com.challenge.climate.service.ClimaService}.
+ * <p>
+ * Cada fase registra su duración, los días calculados, los días por segundo y los bytes asignados por día.
+ * Las fases se calculan en paralelo, así que los bytes asignados se suman sobre todos los hilos de la JVM y
+ * pueden incluir asignaciones de otras tareas concurrentes. Las métricas se etiquetan con el clasificador,
+ * para distinguir la simulación precalculada de los sistemas de usuarios.
+ */
+public class MetricasClima {
+
+    private static final com.sun.management.ThreadMXBean HILOS = obtenerHilos();
+
+    private final MeterRegistry registro;
+    private final String clasificador;
+    private final Map<String, Fase> fases = new ConcurrentHashMap<>();
+
+    /**
+     * @param registro el registro donde publicar las métricas
+     * @param clasificador el clasificador del servicio, como etiqueta
+     */
+    public MetricasClima(MeterRegistry registro, String clasificador) {
+        this.registro = registro;
+        this.clasificador = clasificador;
+    }
+
+    public MeterRegistry getRegistro() {
+        return registro;
+    }
+
+    /**
+     * Mide una fase de cálculo.
+     *
+     * @param fase el nombre de la fase
+     * @param dias la cantidad de días que calcula la fase
+     * @param calculo el cálculo de la fase
+     * @return el resultado del cálculo
+     * @param <T> el tipo del resultado
+     */
+    public <T> T medirFase(String fase, long dias, Supplier<T> calculo) {
+        Fase metricas = fases.computeIfAbsent(fase, this::crearFase);
+        long bytesIniciales = bytesAsignados();
+        long inicio = System.nanoTime();
+
+        T resultado = calculo.get();
+
+        long duracion = System.nanoTime() - inicio;
+        long bytes = bytesAsignados() - bytesIniciales;
+        metricas.duracion.record(duracion, TimeUnit.NANOSECONDS);
+        metricas.dias.increment(dias);
+        if (dias > 0) {
+            metricas.diasPorSegundo.record(dias * 1e9 / Math.max(duracion, 1));
+            if (bytesIniciales >= 0 && bytes >= 0) {
+                metricas.bytesPorDia.record((double) bytes / dias);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Crea el temporizador de una consulta, con percentiles para ver la latencia de las más lentas.
+     *
+     * @param consulta el nombre de la consulta
+     * @return el temporizador
+     */
+    public Timer temporizador(String consulta) {
+        return Timer.builder("clima.consulta.duracion")
+                .description("Duracion de las consultas sobre una simulacion")
+                .tags("consulta", consulta, "clasificador", clasificador)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registro);
+    }
+
+    /**
+     * Crea los contadores de aciertos y fallos de una búsqueda.
+     *
+     * @param busqueda el nombre de la búsqueda, por ejemplo "almacen" para los días precalculados
+     * @return los contadores
+     */
+    public Busqueda busqueda(String busqueda) {
+        return new Busqueda(contadorBusqueda(busqueda, "acierto"), contadorBusqueda(busqueda, "fallo"));
+    }
+
+    private Counter contadorBusqueda(String busqueda, String resultado) {
+        return Counter.builder("clima.busquedas")
+                .description("Busquedas de pronosticos, por resultado")
+                .tags("busqueda", busqueda, "resultado", resultado, "clasificador", clasificador)
+                .register(registro);
+    }
+
+    private Fase crearFase(String fase) {
+        String[] etiquetas = {"fase", fase, "clasificador", clasificador};
+        return new Fase(
+                Timer.builder("clima.calculo.duracion").description("Duracion de cada fase de calculo")
+                        .tags(etiquetas).register(registro),
+                Counter.builder("clima.calculo.dias").description("Dias calculados por cada fase")
+                        .tags(etiquetas).register(registro),
+                DistributionSummary.builder("clima.calculo.dias.por.segundo").description("Dias por segundo de cada ejecucion de una fase")
+                        .tags(etiquetas).register(registro),
+                DistributionSummary.builder("clima.calculo.asignacion").description("Bytes asignados por dia calculado")
+                        .baseUnit("bytes").tags(etiquetas).register(registro));
+    }
+
+    /**
+     * Suma los bytes asignados por todos los hilos vivos.
+     *
+     * @return los bytes asignados, o -1 si la JVM no los informa
+     */
+    private static long bytesAsignados() {
+        if (HILOS == null) {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : HILOS.getThreadAllocatedBytes(HILOS.getAllThreadIds())) {
+            total += Math.max(bytes, 0);
+        }
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean obtenerHilos() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean hilos
+                && hilos.isThreadAllocatedMemorySupported() && hilos.isThreadAllocatedMemoryEnabled()) {
+            return hilos;
+        }
+        return null;
+    }
+
+    private record Fase(Timer duracion, Counter dias, DistributionSummary diasPorSegundo, DistributionSummary bytesPorDia) {
+
+    }
+
+    /**
+     * Contadores de aciertos y fallos de una búsqueda.
+     */
+    public record Busqueda(Counter aciertos, Counter fallos) {
+
+        public void registrar(boolean acierto) {
+            (acierto ? aciertos : fallos).increment();
+        }
+    }
+}
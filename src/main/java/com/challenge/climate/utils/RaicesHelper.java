@@ -0,0 +1,71 @@
+package com.challenge.climate.utils;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Búsqueda de raíces de funciones continuas por muestreo y bisección.
+ */
+public class RaicesHelper {
+
+    /**
+     * Busca las raíces de una función en un intervalo. Se evalúa la función cada {@code paso} y cada cambio de
+     * signo entre dos muestras se acota por bisección hasta {@code precision}.
+     * <p>
+     * Solo se encuentran las raíces con cambio de signo, y a lo sumo una entre dos muestras: el paso debe ser
+     * menor que la mitad de la distancia mínima entre raíces. Las raíces dobles, donde la función toca el cero sin
+     * cruzarlo, se buscan como raíces de la derivada.
+     *
+     * @param funcion la función continua
+     * @param desde el inicio del intervalo
+     * @param hasta el fin del intervalo
+     * @param paso la distancia entre muestras
+     * @param precision el ancho máximo del intervalo que acota cada raíz
+     * @return las raíces, en orden creciente
+     */
+    public static double[] buscarRaices(DoubleUnaryOperator funcion, double desde, double hasta, double paso, double precision) {
+        DoubleStream.Builder raices = DoubleStream.builder();
+        double inicio = desde;
+        double valorInicio = funcion.applyAsDouble(inicio);
+        if (valorInicio == 0) {
+            raices.add(inicio);
+        }
+
+        long muestras = (long) Math.ceil((hasta - desde) / paso);
+        for (long muestra = 1; muestra <= muestras; muestra++) {
+            double fin = Math.min(hasta, desde + muestra * paso);
+            double valorFin = funcion.applyAsDouble(fin);
+            if (valorFin == 0) {
+                raices.add(fin);
+            } else if (valorInicio != 0 && (valorInicio < 0) != (valorFin < 0)) {
+                raices.add(biseccion(funcion, inicio, fin, valorInicio, precision));
+            }
+            inicio = fin;
+            valorInicio = valorFin;
+        }
+        return raices.build().toArray();
+    }
+
+    /**
+     * Acota una raíz entre dos puntos donde la función tiene distinto signo.
+     */
+    private static double biseccion(DoubleUnaryOperator funcion, double inicio, double fin, double valorInicio, double precision) {
+        while (fin - inicio > precision) {
+            double medio = (inicio + fin) / 2;
+            if (medio <= inicio || medio >= fin) {
+                break;
+            }
+            double valorMedio = funcion.applyAsDouble(medio);
+            if (valorMedio == 0) {
+                return medio;
+            }
+            if ((valorMedio < 0) == (valorInicio < 0)) {
+                inicio = medio;
+                valorInicio = valorMedio;
+            } else {
+                fin = medio;
+            }
+        }
+        return (inicio + fin) / 2;
+    }
+}
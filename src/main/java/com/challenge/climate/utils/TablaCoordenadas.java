@@ -0,0 +1,105 @@
+package com.challenge.climate.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.challenge.climate.utils.Constantes.GRADOS_180;
+import static com.challenge.climate.utils.Constantes.GRADOS_360;
+
+/**
+ * Coordenadas cartesianas precalculadas de una órbita para cada grado entero entre -180 y 180.
+ * <p>
+ * Los senos y cosenos se calculan una sola vez por grado y las coordenadas una sola vez por radio,
+ * con el mismo redondeo hacia abajo que se aplicaba con {@link java.math.BigDecimal}.
+ */
+public final class TablaCoordenadas {
+
+    private static final double[] COSENOS = new double[GRADOS_360 + 1];
+    private static final double[] SENOS = new double[GRADOS_360 + 1];
+
+    /**
+     * Cantidad máxima de radios con tabla compartida. Los radios de sistemas definidos por usuarios son
+     * arbitrarios, así que pasado este límite se desalojan tablas al crear otras.
+     */
+    private static final int TABLAS_MAXIMAS = 1024;
+
+    private static final Map<Double, TablaCoordenadas> TABLAS = new ConcurrentHashMap<>();
+
+    static {
+        for (int grados = -GRADOS_180; grados <= GRADOS_180; grados++) {
+            COSENOS[grados + GRADOS_180] = Math.cos(Math.toRadians(grados));
+            SENOS[grados + GRADOS_180] = Math.sin(Math.toRadians(grados));
+        }
+    }
+
+    private final double radio;
+    private final double[] x = new double[GRADOS_360 + 1];
+    private final double[] y = new double[GRADOS_360 + 1];
+
+    private TablaCoordenadas(double radio) {
+        this.radio = radio;
+        for (int indice = 0; indice <= GRADOS_360; indice++) {
+            x[indice] = redondearHaciaAbajo(COSENOS[indice] * radio);
+            y[indice] = redondearHaciaAbajo(SENOS[indice] * radio);
+        }
+    }
+
+    /**
+     * Obtiene la tabla de un radio, creándola si no está. Las búsquedas no toman locks. Al crear una tabla con
+     * {@link #TABLAS_MAXIMAS} ya guardadas se desalojan otras, sin orden de uso: una tabla desalojada se vuelve a
+     * crear si se pide, y quien ya la tiene la sigue usando.
+     *
+     * @param radio el radio de la órbita
+     * @return la tabla de coordenadas del radio
+     */
+    public static TablaCoordenadas de(double radio) {
+        TablaCoordenadas tabla = TABLAS.get(radio);
+        if (tabla != null) {
+            return tabla;
+        }
+
+        tabla = TABLAS.computeIfAbsent(radio, TablaCoordenadas::new);
+        Iterator<Double> radios = TABLAS.keySet().iterator();
+        while (TABLAS.size() > TABLAS_MAXIMAS && radios.hasNext()) {
+            Double desalojado = radios.next();
+            if (desalojado != radio) {
+                radios.remove();
+            }
+        }
+        return tabla;
+    }
+
+    /**
+     * Obtiene la coordenada X para un ángulo: x = floor(r⋅cos(θ)).
+     *
+     * @param grados el ángulo en grados
+     * @return la coordenada X
+     */
+    public double getX(int grados) {
+        if (grados < -GRADOS_180 || grados > GRADOS_180) {
+            return redondearHaciaAbajo(Math.cos(Math.toRadians(grados)) * radio);
+        }
+        return x[grados + GRADOS_180];
+    }
+
+    /**
+     * Obtiene la coordenada Y para un ángulo: y = floor(r⋅sen(θ)).
+     *
+     * @param grados el ángulo en grados
+     * @return la coordenada Y
+     */
+    public double getY(int grados) {
+        if (grados < -GRADOS_180 || grados > GRADOS_180) {
+            return redondearHaciaAbajo(Math.sin(Math.toRadians(grados)) * radio);
+        }
+        return y[grados + GRADOS_180];
+    }
+
+    /**
+     * Redondea hacia abajo. Sumar 0.0 convierte -0.0 en 0.0, igual que BigDecimal.
+     */
+    private static double redondearHaciaAbajo(double valor) {
+        return Math.floor(valor) + 0.0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.challenge.climate.model;
+
+import com.challenge.climate.enums.ClimaEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara las consultas de {@link CicloClimatico} con un recorrido día por día de ciclos aleatorios. Los perímetros
+ * se toman de pocos valores para que haya empates.
+ */
+class CicloClimaticoTest {
+
+    private static final ClimaEnum[] CLIMAS = ClimaEnum.values();
+    private static final int CICLOS = 300;
+    private static final int CONSULTAS_POR_CICLO = 50;
+
+    @Test
+    void conteosCoincidenConRecorrido() {
+        Random aleatorio = new Random(3);
+        for (int i = 0; i < CICLOS; i++) {
+            Ciclo ciclo = crearCiclo(aleatorio);
+            for (int consulta = 0; consulta < CONSULTAS_POR_CICLO; consulta++) {
+                long desde = 1 + aleatorio.nextInt(1_000_000);
+                long hasta = desde + aleatorio.nextInt(3 * ciclo.periodo());
+                assertEquals(ciclo.contarClimas(desde, hasta), ciclo.ciclo().contarClimas(desde, hasta),
+                        "Periodo " + ciclo.periodo() + ", rango " + desde + "-" + hasta);
+            }
+        }
+    }
+
+    @Test
+    void conteosCercaDelMaximoDeLong() {
+        Random aleatorio = new Random(5);
+        for (int i = 0; i < CICLOS; i++) {
+            Ciclo ciclo = crearCiclo(aleatorio);
+            long desde = Long.MAX_VALUE - aleatorio.nextInt(3 * ciclo.periodo());
+            assertEquals(ciclo.contarClimas(desde, Long.MAX_VALUE), ciclo.ciclo().contarClimas(desde, Long.MAX_VALUE),
+                    "Periodo " + ciclo.periodo() + ", desde " + desde);
+        }
+    }
+
+    @Test
+    void picoLluviaCoincideConRecorrido() {
+        Random aleatorio = new Random(7);
+        for (int i = 0; i < CICLOS; i++) {
+            Ciclo ciclo = crearCiclo(aleatorio);
+            for (int consulta = 0; consulta < CONSULTAS_POR_CICLO; consulta++) {
+                long desde = 1 + aleatorio.nextInt(1_000_000);
+                long hasta = desde + aleatorio.nextInt(3 * ciclo.periodo());
+                assertEquals(ciclo.picoLluvia(desde, hasta), ciclo.ciclo().obtenerDiaMayorLluvia(desde, hasta),
+                        "Periodo " + ciclo.periodo() + ", rango " + desde + "-" + hasta);
+            }
+        }
+    }
+
+    @Test
+    void picoLluviaCercaDelMaximoDeLong() {
+        Random aleatorio = new Random(11);
+        for (int i = 0; i < CICLOS; i++) {
+            Ciclo ciclo = crearCiclo(aleatorio);
+            long desde = Long.MAX_VALUE - aleatorio.nextInt(3 * ciclo.periodo());
+            assertEquals(ciclo.picoLluvia(desde, Long.MAX_VALUE), ciclo.ciclo().obtenerDiaMayorLluvia(desde, Long.MAX_VALUE),
+                    "Periodo " + ciclo.periodo() + ", desde " + desde);
+        }
+    }
+
+    private static Ciclo crearCiclo(Random aleatorio) {
+        int periodo = 1 + aleatorio.nextInt(360);
+        byte[] climas = new byte[periodo];
+        double[] perimetros = new double[periodo];
+        for (int dia = 0; dia < periodo; dia++) {
+            climas[dia] = (byte) aleatorio.nextInt(CLIMAS.length);
+            perimetros[dia] = aleatorio.nextInt(20);
+        }
+        return new Ciclo(new CicloClimatico(climas, perimetros), climas, perimetros);
+    }
+
+    private record Ciclo(CicloClimatico ciclo, byte[] climas, double[] perimetros) {
+
+        int periodo() {
+            return climas.length;
+        }
+
+        ClimaEnum clima(long dia) {
+            return CLIMAS[climas[(int) ((dia - 1) % periodo())]];
+        }
+
+        Map<ClimaEnum, Long> contarClimas(long desde, long hasta) {
+            Map<ClimaEnum, Long> conteos = new EnumMap<>(ClimaEnum.class);
+            for (ClimaEnum clima : CLIMAS) {
+                conteos.put(clima, 0L);
+            }
+            for (long dia = desde; dia <= hasta && dia > 0; dia++) {
+                conteos.merge(clima(dia), 1L, Long::sum);
+            }
+            return conteos;
+        }
+
+        /**
+         * El primer día de lluvia con perímetro máximo del rango, o 0 si no hay lluvia.
+         */
+        long picoLluvia(long desde, long hasta) {
+            long pico = 0;
+            double perimetroPico = Double.NEGATIVE_INFINITY;
+            for (long dia = desde; dia <= hasta && dia > 0; dia++) {
+                double perimetro = perimetros[(int) ((dia - 1) % periodo())];
+                if (clima(dia) == ClimaEnum.LLUVIA && perimetro > perimetroPico) {
+                    pico = dia;
+                    perimetroPico = perimetro;
+                }
+            }
+            return pico;
+        }
+    }
+}
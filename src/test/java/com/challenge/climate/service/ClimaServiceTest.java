@@ -0,0 +1,59 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.CondicionesClimaticasDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.model.AlmacenPronosticos;
+import com.challenge.climate.model.Simulacion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara las condiciones de rangos de días, resueltas con el ciclo de las órbitas, con un recorrido de los días
+ * guardados.
+ */
+class ClimaServiceTest {
+
+    private static final int TOTAL_DIAS = 20000;
+    private static final int CONSULTAS = 1000;
+
+    @Test
+    void condicionesDeUnRangoCoincidenConRecorrido() {
+        ClimaService climaService = new ClimaService(ClasificadorEnum.PENDIENTES, new SimpleMeterRegistry());
+        Simulacion simulacion = climaService.calcularPronosticos(TOTAL_DIAS);
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+
+        Random aleatorio = new Random(13);
+        for (int consulta = 0; consulta < CONSULTAS; consulta++) {
+            int desde = 1 + aleatorio.nextInt(TOTAL_DIAS);
+            int hasta = desde + aleatorio.nextInt(TOTAL_DIAS - desde + 1);
+            String rango = "Rango " + desde + "-" + hasta;
+
+            long[] conteos = new long[ClimaEnum.values().length];
+            long pico = 0;
+            double perimetroPico = Double.NEGATIVE_INFINITY;
+            for (int dia = desde; dia <= hasta; dia++) {
+                ClimaEnum clima = almacen.getClima(dia);
+                conteos[clima.ordinal()]++;
+                if (clima == ClimaEnum.LLUVIA && almacen.getPerimetro(dia) > perimetroPico) {
+                    pico = dia;
+                    perimetroPico = almacen.getPerimetro(dia);
+                }
+            }
+
+            verificar(climaService.calcularCondiciones(simulacion, desde, hasta), conteos, pico, rango);
+        }
+    }
+
+    private static void verificar(CondicionesClimaticasDTO condiciones, long[] conteos, long pico, String rango) {
+        assertEquals(conteos[ClimaEnum.SEQUIA.ordinal()], condiciones.getSequia(), rango);
+        assertEquals(conteos[ClimaEnum.LLUVIA.ordinal()], condiciones.getLluvia(), rango);
+        assertEquals(conteos[ClimaEnum.OPTIMO.ordinal()], condiciones.getOptimo(), rango);
+        assertEquals(conteos[ClimaEnum.INDEFINIDO.ordinal()], condiciones.getIndefinido(), rango);
+        assertEquals(pico, condiciones.getDiaMasLluvioso() == null ? 0 : condiciones.getDiaMasLluvioso().getDia(), rango);
+    }
+}
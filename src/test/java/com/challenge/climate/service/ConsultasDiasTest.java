@@ -0,0 +1,119 @@
+package com.challenge.climate.service;
+
+import com.challenge.climate.dto.CondicionDTO;
+import com.challenge.climate.dto.ResultadoConsultaDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.CuadranteEnum;
+import com.challenge.climate.enums.HemisferioEnum;
+import com.challenge.climate.model.AlmacenPronosticos;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Posicion;
+import com.challenge.climate.model.Simulacion;
+import com.challenge.climate.utils.PosicionHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara las consultas resueltas con el {@link com.challenge.climate.model.IndiceBits} con evaluar cada condición
+ * día por día con {@link PosicionHelper}, para consultas aleatorias de hasta cuatro niveles.
+ */
+class ConsultasDiasTest {
+
+    private static final int TOTAL_DIAS = 20000;
+    private static final int CONSULTAS = 300;
+    private static final int LIMITE = 50;
+    private static final double PERIMETRO_MAXIMO = 7000;
+
+    private final Random aleatorio = new Random(7);
+
+    @Test
+    void consultasCoincidenConRecorrido() {
+        Simulacion simulacion = new ClimaService(ClasificadorEnum.PENDIENTES, new SimpleMeterRegistry()).calcularPronosticos(TOTAL_DIAS);
+        AlmacenPronosticos almacen = simulacion.getAlmacen();
+        ConsultasDias consultasDias = new ConsultasDias();
+        Dia dia = almacen.getDia(1);
+
+        for (int consulta = 0; consulta < CONSULTAS; consulta++) {
+            CondicionDTO condicion = crearCondicion(0);
+            int desde = 1 + aleatorio.nextInt(TOTAL_DIAS / 2);
+            int hasta = desde + aleatorio.nextInt(TOTAL_DIAS - desde + 1);
+
+            long cantidad = 0;
+            List<Integer> listados = new ArrayList<>();
+            for (int numeroDia = desde; numeroDia <= hasta; numeroDia++) {
+                almacen.cargarDia(dia, numeroDia);
+                if (cumple(dia, almacen.getPerimetro(numeroDia), condicion)) {
+                    cantidad++;
+                    if (listados.size() < LIMITE) {
+                        listados.add(numeroDia);
+                    }
+                }
+            }
+
+            ResultadoConsultaDTO resultado = consultasDias.consultar(simulacion, condicion, desde, hasta, LIMITE);
+            assertEquals(cantidad, resultado.cantidad(), condicion + ", rango " + desde + "-" + hasta);
+            assertEquals(listados, resultado.dias(), condicion + ", rango " + desde + "-" + hasta);
+        }
+    }
+
+    /**
+     * Crea una condición aleatoria. Desde el tercer nivel solo se crean condiciones simples.
+     */
+    private CondicionDTO crearCondicion(int nivel) {
+        int tipo = nivel > 2 ? 3 + aleatorio.nextInt(4) : aleatorio.nextInt(7);
+        return switch (tipo) {
+            case 0 -> new CondicionDTO(List.of(crearCondicion(nivel + 1), crearCondicion(nivel + 1), crearCondicion(nivel + 1)),
+                    null, null, null, null, null, null, null, null);
+            case 1 -> new CondicionDTO(null, List.of(crearCondicion(nivel + 1), crearCondicion(nivel + 1)),
+                    null, null, null, null, null, null, null);
+            case 2 -> new CondicionDTO(null, null, crearCondicion(nivel + 1), null, null, null, null, null, null);
+            case 3 -> new CondicionDTO(null, null, null, ClimaEnum.values()[aleatorio.nextInt(ClimaEnum.values().length)],
+                    null, null, null, null, null);
+            case 4 -> new CondicionDTO(null, null, null, null, Dia.PLANETAS.get(aleatorio.nextInt(Dia.PLANETAS.size())),
+                    CuadranteEnum.values()[aleatorio.nextInt(CuadranteEnum.values().length)], null, null, null);
+            case 5 -> new CondicionDTO(null, null, null, null, Dia.PLANETAS.get(aleatorio.nextInt(Dia.PLANETAS.size())),
+                    null, HemisferioEnum.values()[aleatorio.nextInt(HemisferioEnum.values().length)], null, null);
+            default -> {
+                Double mayor = aleatorio.nextBoolean() ? aleatorio.nextDouble() * PERIMETRO_MAXIMO : null;
+                Double menor = mayor == null || aleatorio.nextBoolean() ? aleatorio.nextDouble() * PERIMETRO_MAXIMO : null;
+                yield new CondicionDTO(null, null, null, null, null, null, null, mayor, menor);
+            }
+        };
+    }
+
+    private static boolean cumple(Dia dia, double perimetro, CondicionDTO condicion) {
+        if (condicion.y() != null) {
+            return condicion.y().stream().allMatch(hija -> cumple(dia, perimetro, hija));
+        }
+        if (condicion.o() != null) {
+            return condicion.o().stream().anyMatch(hija -> cumple(dia, perimetro, hija));
+        }
+        if (condicion.no() != null) {
+            return !cumple(dia, perimetro, condicion.no());
+        }
+        if (condicion.clima() != null) {
+            return dia.getTipoClima() == condicion.clima();
+        }
+        if (condicion.cuadrante() != null) {
+            return PosicionHelper.getCuadrante(dia.getPosicion(condicion.planeta())) == condicion.cuadrante();
+        }
+        if (condicion.hemisferio() != null) {
+            Posicion posicion = dia.getPosicion(condicion.planeta());
+            return switch (condicion.hemisferio()) {
+                case NORTE -> PosicionHelper.estaEnHemisferioNorte(posicion);
+                case SUR -> PosicionHelper.estaEnHemisferioSur(posicion);
+                case ESTE -> PosicionHelper.estaEnHemisferioEste(posicion);
+                case OESTE -> PosicionHelper.estaEnHemisferioOeste(posicion);
+            };
+        }
+        return (condicion.perimetroMayor() == null || perimetro > condicion.perimetroMayor())
+                && (condicion.perimetroMenor() == null || perimetro < condicion.perimetroMenor());
+    }
+}
@@ -0,0 +1,58 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.OrientacionEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Planeta;
+import com.challenge.climate.model.Posicion;
+import com.challenge.climate.model.PosicionesPlanetas;
+import com.challenge.climate.model.SistemaPlanetario;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Con tres planetas, {@link ClasificadorPlanetas} debe dar los mismos climas que {@link ClasificadorProductoCruz}.
+ */
+class ClasificadorPlanetasTest {
+
+    private static final int SISTEMAS = 200;
+
+    @Test
+    void conTresPlanetasCoincideConProductoCruz() {
+        Random aleatorio = new Random(42);
+        ClasificadorPlanetas clasificadorPlanetas = new ClasificadorPlanetas();
+        ClasificadorClima productoCruz = new ClasificadorProductoCruz();
+        Posicion posicionSol = new Posicion(new Planeta(PlanetaEnum.SOL, 0), 90);
+
+        for (int sistema = 0; sistema < SISTEMAS; sistema++) {
+            int cantidad = Dia.PLANETAS.size();
+            double[] radios = new double[cantidad];
+            OrientacionEnum[] orientaciones = new OrientacionEnum[cantidad];
+            int[] velocidades = new int[cantidad];
+            Map<PlanetaEnum, PlanetaDTO> configuracion = new EnumMap<>(PlanetaEnum.class);
+            for (int planeta = 0; planeta < cantidad; planeta++) {
+                radios[planeta] = 100 + aleatorio.nextInt(5000);
+                orientaciones[planeta] = aleatorio.nextBoolean() ? OrientacionEnum.HORARIA : OrientacionEnum.ANTIHORARIA;
+                velocidades[planeta] = 1 + aleatorio.nextInt(10);
+                configuracion.put(Dia.PLANETAS.get(planeta), new PlanetaDTO(Dia.PLANETAS.get(planeta), radios[planeta],
+                        orientaciones[planeta], velocidades[planeta]));
+            }
+
+            SistemaPlanetario sistemaPlanetario = new SistemaPlanetario(radios, orientaciones, velocidades);
+            PosicionesPlanetas posiciones = new PosicionesPlanetas(sistemaPlanetario);
+            Dia dia = new Dia(1, configuracion);
+            for (long numeroDia = 1; numeroDia <= sistemaPlanetario.getPeriodo(); numeroDia++) {
+                dia.posicionar(configuracion, numeroDia);
+
+                assertEquals(productoCruz.clasificar(dia, posicionSol), clasificadorPlanetas.clasificar(posiciones.calcular(numeroDia)),
+                        "Sistema " + configuracion.values() + ", dia " + numeroDia);
+            }
+        }
+    }
+}
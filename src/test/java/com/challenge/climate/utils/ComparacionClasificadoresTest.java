@@ -0,0 +1,66 @@
+package com.challenge.climate.utils;
+
+import com.challenge.climate.dto.PlanetaDTO;
+import com.challenge.climate.enums.ClasificadorEnum;
+import com.challenge.climate.enums.ClimaEnum;
+import com.challenge.climate.enums.PlanetaEnum;
+import com.challenge.climate.model.Dia;
+import com.challenge.climate.model.Planeta;
+import com.challenge.climate.model.Posicion;
+import com.challenge.climate.service.ClimaService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comparación diferencial de los clasificadores {@link ClasificadorEnum#PENDIENTES} y {@link ClasificadorEnum#PRODUCTO_CRUZ}
+ * con la configuración por defecto.
+ * <p>
+ * Las posiciones se repiten cada 360 días. En cada ciclo ambos clasificadores coinciden salvo en los días listados,
+ * que PENDIENTES deja indefinidos: 71 de lluvia que las reglas de cuadrantes no detectan y 8 de clima óptimo que la
+ * pendiente redondeada a un decimal no detecta. Solo en 9 de ellos (72, 150, 210, 252, 330, 18, 162, 198 y 342) hay
+ * un planeta sobre un eje.
+ */
+class ComparacionClasificadoresTest {
+
+    private static final int PERIODO = 360;
+    private static final long TOTAL_DIAS = 3650;
+
+    private static final Set<Integer> LLUVIA_SOLO_PRODUCTO_CRUZ = Set.of(
+            23, 24, 25, 26, 27, 28, 29, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87,
+            88, 89, 112, 150, 151, 152, 153, 154, 203, 204, 205, 206, 207, 208, 209, 210, 248, 249, 250, 251, 252, 253,
+            254, 255, 256, 257, 258, 259, 260, 261, 262, 263, 264, 265, 266, 267, 268, 269, 292, 330, 331, 332, 333, 334);
+    private static final Set<Integer> OPTIMO_SOLO_PRODUCTO_CRUZ = Set.of(18, 19, 161, 162, 198, 199, 341, 342);
+
+    @Test
+    void coincidenSalvoLasDiferenciasConocidas() {
+        Map<PlanetaEnum, PlanetaDTO> configuracion = ClimaService.crearConfiguracion();
+        ClasificadorClima pendientes = ClasificadorClima.de(ClasificadorEnum.PENDIENTES);
+        ClasificadorClima productoCruz = ClasificadorClima.de(ClasificadorEnum.PRODUCTO_CRUZ);
+        Posicion posicionSol = new Posicion(new Planeta(PlanetaEnum.SOL, 0), 90);
+        Dia dia = new Dia(1, configuracion);
+
+        for (long numeroDia = 1; numeroDia <= TOTAL_DIAS; numeroDia++) {
+            dia.posicionar(configuracion, numeroDia);
+
+            ClimaEnum climaPendientes = pendientes.clasificar(dia, posicionSol);
+            ClimaEnum esperado = esperadoProductoCruz((int) ((numeroDia - 1) % PERIODO) + 1, climaPendientes);
+            assertEquals(esperado, productoCruz.clasificar(dia, posicionSol), "Dia " + numeroDia);
+        }
+    }
+
+    private static ClimaEnum esperadoProductoCruz(int diaDelCiclo, ClimaEnum climaPendientes) {
+        if (LLUVIA_SOLO_PRODUCTO_CRUZ.contains(diaDelCiclo)) {
+            assertEquals(ClimaEnum.INDEFINIDO, climaPendientes, "Dia del ciclo " + diaDelCiclo);
+            return ClimaEnum.LLUVIA;
+        }
+        if (OPTIMO_SOLO_PRODUCTO_CRUZ.contains(diaDelCiclo)) {
+            assertEquals(ClimaEnum.INDEFINIDO, climaPendientes, "Dia del ciclo " + diaDelCiclo);
+            return ClimaEnum.OPTIMO;
+        }
+        return climaPendientes;
+    }
+}